@@ -0,0 +1,662 @@
+package com.automapper.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Processador de anotações que gera, em tempo de compilação, um mapper Java
+ * para cada par de tipos @AutoMappable do mesmo profile. Os mappers gerados
+ * são registrados em META-INF/services e usados pelo AutoMapper antes do
+ * mapeamento por reflection. Pares que o código gerado não cobre (campos sem
+ * getter ou setter, tipos sem conversão gerada) são registrados como nota e
+ * ficam com o mapeamento por reflection, sem falhar a compilação.
+ */
+@SupportedAnnotationTypes(AutoMapperProcessor.AUTO_MAPPABLE)
+public class AutoMapperProcessor extends AbstractProcessor {
+    static final String AUTO_MAPPABLE = "com.automapper.annotations.AutoMappable";
+    private static final String MAP_TO = "com.automapper.annotations.MapTo";
+    private static final String IGNORE = "com.automapper.annotations.Ignore";
+    private static final String USE_CONVERTER = "com.automapper.annotations.UseConverter";
+    private static final String TYPE_CONVERTER = "com.automapper.core.TypeConverter";
+    private static final String GENERATED_MAPPER = "com.automapper.core.GeneratedMapper";
+    private static final String AUTO_MAPPER = "com.automapper.core.AutoMapper";
+    private static final String CONVERTER_FACTORY = "com.automapper.core.ConverterFactory";
+    private static final String SERVICE_FILE = "META-INF/services/" + GENERATED_MAPPER;
+
+    // Especializações primitivas de TypeConverter: interface, método, entrada e saída
+    private static final String[][] SPECIALIZATIONS = {
+        {"com.automapper.core.IntConverter", "convert", "int", "int"},
+        {"com.automapper.core.LongConverter", "convert", "long", "long"},
+        {"com.automapper.core.DoubleConverter", "convert", "double", "double"},
+        {"com.automapper.core.IntToObjectConverter", "fromInt", "int", null},
+        {"com.automapper.core.LongToObjectConverter", "fromLong", "long", null},
+        {"com.automapper.core.DoubleToObjectConverter", "fromDouble", "double", null},
+        {"com.automapper.core.ToIntConverter", "toInt", null, "int"},
+        {"com.automapper.core.ToLongConverter", "toLong", null, "long"},
+        {"com.automapper.core.ToDoubleConverter", "toDouble", null, "double"}
+    };
+
+    private final Map<String, List<TypeElement>> profiles = new LinkedHashMap<>();
+    private final Set<String> generatedMappers = new HashSet<>();
+    private final List<String> serviceEntries = new ArrayList<>();
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        TypeElement autoMappable = elements.getTypeElement(AUTO_MAPPABLE);
+        if (autoMappable == null) {
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(autoMappable)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@AutoMappable can only be applied to classes");
+                continue;
+            }
+            String profile = (String) annotationValue(findAnnotation(element, AUTO_MAPPABLE), "profile");
+            profiles.computeIfAbsent(profile, p -> new ArrayList<>()).add((TypeElement) element);
+        }
+
+        // Gera um mapper para cada par ordenado de tipos do mesmo profile
+        for (List<TypeElement> profileTypes : profiles.values()) {
+            for (TypeElement source : profileTypes) {
+                for (TypeElement target : profileTypes) {
+                    if (source != target) {
+                        String key = source.getQualifiedName() + "->" + target.getQualifiedName();
+                        if (generatedMappers.add(key)) {
+                            generateMapper(source, target);
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gera o código fonte do mapper entre dois tipos
+     */
+    private void generateMapper(TypeElement source, TypeElement target) {
+        String packageName = elements.getPackageOf(source).getQualifiedName().toString();
+        String className = flatName(source) + "To" + flatName(target) + "Mapper";
+        String sourceName = source.getQualifiedName().toString();
+        String targetName = target.getQualifiedName().toString();
+
+        if (!hasAccessibleConstructor(target, packageName)) {
+            leaveToRuntime(target, sourceName, targetName, "target has no accessible default constructor");
+            return;
+        }
+
+        List<VariableElement> sourceFields = getAllFields(source);
+        List<VariableElement> targetFields = getAllFields(target);
+
+        // Mesmas regras de AutoMapper.processAnnotations
+        Map<String, String> customMappings = new HashMap<>();
+        Set<String> ignoredFields = new HashSet<>();
+        Map<String, TypeMirror> converters = new HashMap<>();
+        for (VariableElement field : sourceFields) {
+            String name = field.getSimpleName().toString();
+            if (findAnnotation(field, IGNORE) != null) {
+                ignoredFields.add(name);
+            }
+            AnnotationMirror mapTo = findAnnotation(field, MAP_TO);
+            if (mapTo != null) {
+                customMappings.put(name, (String) annotationValue(mapTo, "value"));
+            }
+            AnnotationMirror useConverter = findAnnotation(field, USE_CONVERTER);
+            if (useConverter != null) {
+                converters.put(name, (TypeMirror) annotationValue(useConverter, "value"));
+            }
+        }
+        for (VariableElement field : targetFields) {
+            AnnotationMirror mapTo = findAnnotation(field, MAP_TO);
+            if (mapTo != null) {
+                customMappings.put((String) annotationValue(mapTo, "value"), field.getSimpleName().toString());
+            }
+        }
+
+        Map<String, VariableElement> targetFieldMap = new LinkedHashMap<>();
+        for (VariableElement field : targetFields) {
+            targetFieldMap.putIfAbsent(field.getSimpleName().toString(), field);
+        }
+
+        StringBuilder mapCode = new StringBuilder();
+        boolean needsDateFormat = false;
+        boolean needsDateParser = false;
+        boolean valid = true;
+        int index = 0;
+
+        for (VariableElement sourceField : sourceFields) {
+            String sourceFieldName = sourceField.getSimpleName().toString();
+            if (ignoredFields.contains(sourceFieldName)) {
+                continue;
+            }
+
+            VariableElement targetField = targetFieldMap.get(
+                customMappings.getOrDefault(sourceFieldName, sourceFieldName));
+            if (targetField == null) {
+                continue;
+            }
+
+            ExecutableElement getter = findGetter(source, sourceField, packageName);
+            ExecutableElement setter = findSetter(target, targetField, packageName);
+            if (getter == null) {
+                leaveToRuntime(sourceField, sourceName, targetName, 
+                               "field '" + sourceFieldName + "' has no accessible getter");
+                return;
+            }
+            if (setter == null) {
+                leaveToRuntime(targetField, sourceName, targetName, 
+                               "field '" + targetField.getSimpleName() + "' has no accessible setter");
+                return;
+            }
+
+            TypeMirror sourceType = sourceField.asType();
+            TypeMirror targetType = targetField.asType();
+            String value = "value" + index;
+            String read = "source." + getter.getSimpleName() + "()";
+            String write = "target." + setter.getSimpleName();
+            String expression;
+
+            TypeMirror converter = converters.get(sourceFieldName);
+            if (converter != null) {
+                if (!isSubtypeOf(converter, TYPE_CONVERTER)) {
+                    error(sourceField, "Converter " + converter + " must implement " + TYPE_CONVERTER);
+                    valid = false;
+                    continue;
+                }
+                // A instância compartilhada vem do ConverterFactory, como no mapeamento por reflection
+                String instance = CONVERTER_FACTORY + ".get(" + types.erasure(converter) + ".class)";
+                String[] specialization = specialization(converter);
+                if (specialization != null) {
+                    expression = specializedExpression(specialization, instance, sourceType, targetType, value);
+                    if (expression == null) {
+                        leaveToRuntime(sourceField, sourceName, targetName, "converter " + converter + 
+                                       " does not match field '" + sourceFieldName + "' (" + sourceType + 
+                                       ") and '" + targetField.getSimpleName() + "' (" + targetType + ")");
+                        return;
+                    }
+                } else {
+                    expression = "(" + boxedName(targetType) + ") ((java.util.function.Function) " +
+                                 instance + ").apply(" + value + ")";
+                }
+            } else {
+                expression = conversionExpression(sourceType, targetType, value);
+                if (expression == null) {
+                    // Conversões temporais e de elementos ficam com os conversores do AutoMapper
+                    // em tempo de execução; tipos sem conversão conhecida também, já que o
+                    // par pode nunca ser mapeado
+                    String runtimeConversion = runtimeConversion(sourceType, targetType);
+                    leaveToRuntime(sourceField, sourceName, targetName, runtimeConversion != null
+                        ? "field '" + sourceFieldName + "' needs " + runtimeConversion
+                        : "field '" + sourceFieldName + "' (" + sourceType + ") has no generated conversion to '" +
+                          targetField.getSimpleName() + "' (" + targetType + ")");
+                    return;
+                }
+                needsDateFormat |= isType(sourceType, "java.time.LocalDate") && isType(targetType, "java.lang.String");
+                needsDateParser |= isType(sourceType, "java.lang.String") && isType(targetType, "java.time.LocalDate");
+            }
+
+            mapCode.append("        ").append(typeName(sourceType)).append(' ').append(value)
+                .append(" = ").append(read).append(";\n");
+            if (sourceType.getKind().isPrimitive()) {
+                mapCode.append("        ").append(write).append('(').append(expression).append(");\n");
+            } else {
+                mapCode.append("        if (").append(value).append(" != null) {\n")
+                    .append("            ").append(write).append('(').append(expression).append(");\n")
+                    .append("        }\n");
+            }
+            index++;
+        }
+
+        if (!valid) {
+            return;
+        }
+
+        StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+            .append("public final class ").append(className)
+            .append(" implements ").append(GENERATED_MAPPER).append('<').append(sourceName).append(", ")
+            .append(targetName).append("> {\n");
+        if (needsDateFormat || needsDateParser) {
+            code.append("    private static final java.time.format.DateTimeFormatter DATE_FORMAT =\n")
+                .append("        java.time.format.DateTimeFormatter.ofPattern(\"dd/MM/yyyy\");\n");
+        }
+        code.append('\n')
+            .append("    @Override\n")
+            .append("    public Class<").append(sourceName).append("> sourceType() {\n")
+            .append("        return ").append(sourceName).append(".class;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public Class<").append(targetName).append("> targetType() {\n")
+            .append("        return ").append(targetName).append(".class;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public ").append(targetName).append(" map(").append(sourceName).append(" source) {\n")
+            .append("        ").append(targetName).append(" target = new ").append(targetName).append("();\n")
+            .append("        map(source, target);\n")
+            .append("        return target;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("    public void map(").append(sourceName).append(" source, ").append(targetName)
+            .append(" target) {\n")
+            .append(mapCode)
+            .append("    }\n");
+        if (needsDateParser) {
+            code.append('\n')
+                .append("    private static java.time.LocalDate parseLocalDate(String value) {\n")
+                .append("        if (value.length() == 10 && value.charAt(2) == '/' && value.charAt(5) == '/') {\n")
+                .append("            return java.time.LocalDate.parse(value, DATE_FORMAT);\n")
+                .append("        }\n")
+                .append("        return java.time.LocalDate.parse(value);\n")
+                .append("    }\n");
+        }
+        code.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = filer.createSourceFile(qualifiedName, source, target).openWriter()) {
+            writer.write(code.toString());
+        } catch (IOException e) {
+            error(source, "Error generating mapper " + qualifiedName + ": " + e.getMessage());
+            return;
+        }
+        serviceEntries.add(qualifiedName);
+    }
+
+    /**
+     * Gera a expressão de conversão seguindo a mesma ordem do AutoMapper,
+     * ou null se os tipos não forem compatíveis
+     */
+    private String conversionExpression(TypeMirror sourceType, TypeMirror targetType, String value) {
+        // Tipos idênticos
+        if (types.isSameType(sourceType, targetType)) {
+            return value;
+        }
+
+        // Conversões automáticas de tipos numéricos
+        TypeKind sourceNumeric = numericKind(sourceType);
+        TypeKind targetNumeric = numericKind(targetType);
+        if (sourceNumeric != null && targetNumeric != null) {
+            String primitive = types.getPrimitiveType(targetNumeric).toString();
+            return sourceType.getKind().isPrimitive()
+                ? "(" + primitive + ") " + value
+                : value + "." + primitive + "Value()";
+        }
+
+        // Datas e strings
+        if (isType(sourceType, "java.time.LocalDate") && isType(targetType, "java.lang.String")) {
+            return value + ".format(DATE_FORMAT)";
+        }
+        if (isType(sourceType, "java.lang.String") && isType(targetType, "java.time.LocalDate")) {
+            return "parseLocalDate(" + value + ")";
+        }
+
+        // Coleções com o mesmo tipo de elemento são copiadas; com elementos
+        // diferentes, cada elemento precisa do conversor do AutoMapper
+        if (isSubtypeOf(sourceType, "java.util.Collection") && isSubtypeOf(targetType, "java.util.Collection")) {
+            String collection = isSubtypeOf(types.erasure(targetType), "java.util.Set")
+                ? "java.util.HashSet" : "java.util.ArrayList";
+            TypeMirror copy = types.erasure(elements.getTypeElement(collection).asType());
+            if (!sameElementType(sourceType, targetType) || !types.isAssignable(copy, types.erasure(targetType))) {
+                return null;
+            }
+            return "new " + collection + "(" + value + ")";
+        }
+
+        // Mapas, arrays e Optional de tipos diferentes não são objetos complexos
+        if (isContainer(sourceType) || isContainer(targetType)) {
+            return null;
+        }
+
+        // Objetos complexos (mapeamento recursivo)
+        if (!isSimpleType(sourceType) && !isSimpleType(targetType)) {
+            return AUTO_MAPPER + ".create(" + types.erasure(sourceType) + ".class, " +
+                   types.erasure(targetType) + ".class).map(" + value + ")";
+        }
+
+        if (types.isAssignable(sourceType, targetType)) {
+            return value;
+        }
+        return null;
+    }
+
+    private String[] specialization(TypeMirror converter) {
+        for (String[] specialization : SPECIALIZATIONS) {
+            if (isSubtypeOf(converter, specialization[0])) {
+                return specialization;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gera a chamada direta, sem boxing, de um conversor primitivo, ou null se
+     * os campos não forem compatíveis com a entrada e a saída dele
+     */
+    private String specializedExpression(String[] specialization, String instance, TypeMirror sourceType,
+                                         TypeMirror targetType, String value) {
+        String input = specialization[2];
+        String output = specialization[3];
+        if (input != null && !types.isAssignable(sourceType, primitiveType(input))) {
+            return null;
+        }
+
+        String call = instance + "." + specialization[1] + "(" + value + ")";
+        if (output == null) {
+            return "(" + boxedName(targetType) + ") " + call;
+        }
+
+        TypeKind targetKind = numericKind(targetType);
+        if (targetKind == null) {
+            return null;
+        }
+        return "(" + types.getPrimitiveType(targetKind) + ") " + call;
+    }
+
+    private TypeMirror primitiveType(String name) {
+        return types.getPrimitiveType(name.equals("int") ? TypeKind.INT
+            : name.equals("long") ? TypeKind.LONG : TypeKind.DOUBLE);
+    }
+
+    private TypeKind numericKind(TypeMirror type) {
+        TypeMirror primitive = type;
+        if (!type.getKind().isPrimitive()) {
+            try {
+                primitive = types.unboxedType(type);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        TypeKind kind = primitive.getKind();
+        return kind == TypeKind.BOOLEAN || kind == TypeKind.CHAR ? null : kind;
+    }
+
+    private boolean isSimpleType(TypeMirror type) {
+        return type.getKind().isPrimitive() ||
+               isType(type, "java.lang.String") ||
+               isType(type, "java.lang.Boolean") ||
+               isTemporal(type) ||
+               isSubtypeOf(type, "java.lang.Number");
+    }
+
+    private boolean isTemporal(TypeMirror type) {
+        return isType(type, "java.time.LocalDate") ||
+               isType(type, "java.time.LocalDateTime") ||
+               isType(type, "java.time.Instant") ||
+               isType(type, "java.time.OffsetDateTime") ||
+               isSubtypeOf(type, "java.util.Date");
+    }
+
+    private boolean isTemporalConversion(TypeMirror sourceType, TypeMirror targetType) {
+        return (isTemporal(sourceType) || isType(sourceType, "java.lang.String")) &&
+               (isTemporal(targetType) || isType(targetType, "java.lang.String"));
+    }
+
+    /**
+     * Descreve a conversão que só o AutoMapper resolve em tempo de execução,
+     * ou null se o par de campos não tiver uma
+     */
+    private String runtimeConversion(TypeMirror sourceType, TypeMirror targetType) {
+        if (isTemporalConversion(sourceType, targetType)) {
+            return "a temporal conversion";
+        }
+        if (isContainer(sourceType) && isContainer(targetType)) {
+            return "an element-wise conversion";
+        }
+        return null;
+    }
+
+    /**
+     * Arrays, coleções, mapas e Optional, convertidos elemento a elemento
+     */
+    private boolean isContainer(TypeMirror type) {
+        return type.getKind() == TypeKind.ARRAY ||
+               isSubtypeOf(type, "java.util.Collection") ||
+               isSubtypeOf(type, "java.util.Map") ||
+               isSubtypeOf(type, "java.util.Optional");
+    }
+
+    /**
+     * Verifica se duas coleções declaram o mesmo tipo de elemento; coleções
+     * sem argumento de tipo copiam as referências, como no AutoMapper
+     */
+    private boolean sameElementType(TypeMirror sourceType, TypeMirror targetType) {
+        List<? extends TypeMirror> sourceArguments = ((DeclaredType) sourceType).getTypeArguments();
+        List<? extends TypeMirror> targetArguments = ((DeclaredType) targetType).getTypeArguments();
+        if (sourceArguments.isEmpty() || targetArguments.isEmpty()) {
+            return true;
+        }
+        return sourceArguments.size() == 1 && targetArguments.size() == 1 &&
+               types.isSameType(sourceArguments.get(0), targetArguments.get(0));
+    }
+
+    private boolean hasAccessibleConstructor(TypeElement type, String packageName) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && isAccessible(constructor, packageName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ExecutableElement findGetter(TypeElement type, VariableElement field, String packageName) {
+        String suffix = capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            String name = method.getSimpleName().toString();
+            boolean getterName = name.equals("get" + suffix) ||
+                (name.equals("is" + suffix) && field.asType().getKind() == TypeKind.BOOLEAN);
+            if (getterName && method.getParameters().isEmpty() && isAccessible(method, packageName) &&
+                    types.isSameType(method.getReturnType(), field.asType())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findSetter(TypeElement type, VariableElement field, String packageName) {
+        String name = "set" + capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == 1 &&
+                    isAccessible(method, packageName) &&
+                    types.isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAccessible(Element element, String packageName) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        PackageElement declaringPackage = elements.getPackageOf(element);
+        return declaringPackage.getQualifiedName().contentEquals(packageName);
+    }
+
+    private List<VariableElement> getAllFields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    fields.add(field);
+                }
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+        }
+        return fields;
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private Object annotationValue(AnnotationMirror annotation, String name) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+            elements.getElementValuesWithDefaults(annotation);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean isType(TypeMirror type, String qualifiedName) {
+        TypeElement element = elements.getTypeElement(qualifiedName);
+        return element != null && types.isSameType(type, element.asType());
+    }
+
+    private boolean isSubtypeOf(TypeMirror type, String qualifiedName) {
+        TypeElement element = elements.getTypeElement(qualifiedName);
+        return element != null && !type.getKind().isPrimitive() &&
+               types.isSubtype(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    private String typeName(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    private String boxedName(TypeMirror type) {
+        return type.getKind().isPrimitive()
+            ? types.boxedClass((PrimitiveType) type).getQualifiedName().toString()
+            : typeName(type);
+    }
+
+    private String flatName(TypeElement type) {
+        String qualifiedName = type.getQualifiedName().toString();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String name = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        return name.replace('.', '_');
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Registra os mappers gerados para descoberta via ServiceLoader. Em uma
+     * compilação incremental, as entradas já existentes cujos mappers ainda
+     * existem são mantidas junto com as desta compilação.
+     */
+    private void writeServiceFile() {
+        if (serviceEntries.isEmpty()) {
+            return;
+        }
+        Set<String> entries = new TreeSet<>(serviceEntries);
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    String entry = line.trim();
+                    if (!entry.isEmpty() && !entry.startsWith("#") && elements.getTypeElement(entry) != null) {
+                        entries.add(entry);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Nenhum arquivo de uma compilação anterior
+        }
+
+        try (Writer writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE).openWriter()) {
+            for (String entry : entries) {
+                writer.write(entry);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Error writing service file: " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Registra que o par não recebe mapper gerado; o AutoMapper o mapeia pelo
+     * plano por reflection, que acessa os campos diretamente
+     */
+    private void leaveToRuntime(Element element, String sourceName, String targetName, String reason) {
+        messager.printMessage(Diagnostic.Kind.NOTE, 
+                              "Mapper " + sourceName + " -> " + targetName + " left to the runtime: " + reason, element);
+    }
+}
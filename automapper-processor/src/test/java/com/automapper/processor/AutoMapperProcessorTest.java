@@ -0,0 +1,428 @@
+package com.automapper.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.automapper.core.AutoMapper;
+import com.automapper.core.ConverterFactory;
+import com.automapper.core.NullValuePolicy;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AutoMapperProcessorTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void collectionWithDifferentElementTypesIsLeftToTheRuntime() throws Exception {
+        Compilation compilation = compile(
+            bean("Child", "", "String", "nome"),
+            bean("ChildView", "", "String", "nome"),
+            bean("Holder", "holder", "java.util.List<Child>", "items"),
+            bean("HolderView", "holder", "java.util.List<ChildView>", "items"));
+
+        assertFalse(compilation.generated("HolderToHolderViewMapper"));
+        assertTrue(compilation.notes().contains("element-wise"), compilation.notes());
+
+        Object holder = compilation.newInstance("Holder");
+        set(holder, "items", new ArrayList<>(Arrays.asList(child(compilation, "Ana"), child(compilation, "Bia"))));
+
+        List<?> items = (List<?>) get(compilation.map(holder, "HolderView"), "items");
+        assertEquals(2, items.size());
+        assertEquals(compilation.load("ChildView"), items.get(0).getClass());
+        assertEquals("Bia", get(items.get(1), "nome"));
+    }
+
+    @Test
+    void mapWithDifferentValueTypesIsLeftToTheRuntime() throws Exception {
+        Compilation compilation = compile(
+            bean("Child", "", "String", "nome"),
+            bean("ChildView", "", "String", "nome"),
+            bean("Holder", "holder", "java.util.Map<String, Child>", "items"),
+            bean("HolderView", "holder", "java.util.Map<String, ChildView>", "items"));
+
+        assertFalse(compilation.generated("HolderToHolderViewMapper"));
+
+        Object holder = compilation.newInstance("Holder");
+        Map<String, Object> items = new HashMap<>();
+        items.put("a", child(compilation, "Ana"));
+        set(holder, "items", items);
+
+        Map<?, ?> mapped = (Map<?, ?>) get(compilation.map(holder, "HolderView"), "items");
+        assertEquals(compilation.load("ChildView"), mapped.get("a").getClass());
+        assertEquals("Ana", get(mapped.get("a"), "nome"));
+    }
+
+    @Test
+    void arrayWithDifferentElementTypesIsLeftToTheRuntime() throws Exception {
+        Compilation compilation = compile(
+            bean("Child", "", "String", "nome"),
+            bean("ChildView", "", "String", "nome"),
+            bean("Holder", "holder", "Child[]", "items"),
+            bean("HolderView", "holder", "ChildView[]", "items"));
+
+        assertFalse(compilation.generated("HolderToHolderViewMapper"));
+
+        Object holder = compilation.newInstance("Holder");
+        Object children = Array.newInstance(compilation.load("Child"), 1);
+        Array.set(children, 0, child(compilation, "Ana"));
+        set(holder, "items", children);
+
+        Object mapped = get(compilation.map(holder, "HolderView"), "items");
+        assertEquals(compilation.load("ChildView"), mapped.getClass().getComponentType());
+        assertEquals("Ana", get(Array.get(mapped, 0), "nome"));
+    }
+
+    @Test
+    void optionalWithDifferentTypesIsLeftToTheRuntime() throws Exception {
+        Compilation compilation = compile(
+            bean("Child", "", "String", "nome"),
+            bean("ChildView", "", "String", "nome"),
+            bean("Holder", "holder", "java.util.Optional<Child>", "item"),
+            bean("HolderView", "holder", "java.util.Optional<ChildView>", "item"));
+
+        assertFalse(compilation.generated("HolderToHolderViewMapper"));
+
+        Object holder = compilation.newInstance("Holder");
+        set(holder, "item", Optional.of(child(compilation, "Ana")));
+
+        Optional<?> mapped = (Optional<?>) get(compilation.map(holder, "HolderView"), "item");
+        assertEquals(compilation.load("ChildView"), mapped.get().getClass());
+    }
+
+    @Test
+    void collectionWithSameElementTypeIsCopiedByTheGeneratedMapper() throws Exception {
+        Compilation compilation = compile(
+            bean("Holder", "holder", "java.util.List<String>", "items"),
+            bean("HolderView", "holder", "java.util.Collection<String>", "items"));
+
+        assertTrue(compilation.generated("HolderToHolderViewMapper"));
+
+        Object holder = compilation.newInstance("Holder");
+        List<String> items = new ArrayList<>(Arrays.asList("a", "b"));
+        set(holder, "items", items);
+
+        Collection<?> mapped = (Collection<?>) get(compilation.map(holder, "HolderView"), "items");
+        assertEquals(items, mapped);
+        assertNotSame(items, mapped);
+    }
+
+    @Test
+    void nestedObjectIsMappedByTheGeneratedMapper() throws Exception {
+        Compilation compilation = compile(
+            bean("Child", "child", "String", "nome"),
+            bean("ChildView", "child", "String", "nome"),
+            bean("Holder", "holder", "Child", "item"),
+            bean("HolderView", "holder", "ChildView", "item"));
+
+        assertTrue(compilation.generated("HolderToHolderViewMapper"));
+        assertTrue(compilation.generated("ChildToChildViewMapper"));
+
+        Object holder = compilation.newInstance("Holder");
+        set(holder, "item", child(compilation, "Ana"));
+
+        Object mapped = get(compilation.map(holder, "HolderView"), "item");
+        assertEquals(compilation.load("ChildView"), mapped.getClass());
+        assertEquals("Ana", get(mapped, "nome"));
+    }
+
+    @Test
+    void graphModeTracksReferencesThroughPairsWithGeneratedMappers() throws Exception {
+        Compilation compilation = compile(
+            bean("Parent", "graph", "Child", "child"),
+            bean("Child", "graph", "Parent", "parent"),
+            bean("ParentView", "graph", "ChildView", "child"),
+            bean("ChildView", "graph", "ParentView", "parent"));
+
+        assertTrue(compilation.generated("ChildToChildViewMapper"));
+
+        Object parent = compilation.newInstance("Parent");
+        Object child = compilation.newInstance("Child");
+        set(parent, "child", child);
+        set(child, "parent", parent);
+
+        @SuppressWarnings("unchecked")
+        AutoMapper<Object, Object> mapper = 
+            (AutoMapper<Object, Object>) AutoMapper.create(parent.getClass(), compilation.load("ParentView"));
+        Object mapped = mapper.preserveReferences().map(parent);
+
+        assertSame(mapped, get(get(mapped, "child"), "parent"));
+    }
+
+    @Test
+    void generatedMapperWritesIntoAnExistingTarget() throws Exception {
+        Compilation compilation = compile(
+            bean("Contact", "contact", "String", "nome"),
+            bean("ContactView", "contact", "String", "nome"));
+
+        assertTrue(compilation.generated("ContactToContactViewMapper"));
+
+        Object contact = compilation.newInstance("Contact");
+        Object view = compilation.newInstance("ContactView");
+        set(view, "nome", "Ana");
+        @SuppressWarnings("unchecked")
+        AutoMapper<Object, Object> mapper = 
+            (AutoMapper<Object, Object>) AutoMapper.create(contact.getClass(), view.getClass());
+
+        assertSame(view, mapper.map(contact, view));
+        assertEquals("Ana", get(view, "nome"));
+
+        set(contact, "nome", "Bia");
+        mapper.map(contact, view);
+        assertEquals("Bia", get(view, "nome"));
+
+        set(contact, "nome", null);
+        mapper.nullValues(NullValuePolicy.OVERWRITE).map(contact, view);
+        assertNull(get(view, "nome"));
+    }
+
+    @Test
+    void generatedMapperObtainsConvertersFromTheFactory() throws Exception {
+        Compilation compilation = compile(
+            new String[] {"Trim", "package fixture;\n\n" +
+                "public class Trim implements com.automapper.core.TypeConverter<String, String> {\n" +
+                "    public String apply(String value) {\n" +
+                "        return value.trim();\n" +
+                "    }\n" +
+                "}\n"},
+            annotatedBean("Tag", "tag", "Trim", "String", "nome"),
+            bean("TagView", "tag", "String", "nome"));
+
+        assertTrue(compilation.source("TagToTagViewMapper").contains(
+            "com.automapper.core.ConverterFactory.get(fixture.Trim.class)"), compilation.source("TagToTagViewMapper"));
+
+        AtomicInteger provided = new AtomicInteger();
+        ConverterFactory.useProvider(type -> {
+            provided.incrementAndGet();
+            return null;
+        });
+        try {
+            Object tag = compilation.newInstance("Tag");
+            set(tag, "nome", " Ana ");
+            assertEquals("Ana", get(compilation.map(tag, "TagView"), "nome"));
+            assertEquals("Ana", get(compilation.map(tag, "TagView"), "nome"));
+            assertEquals(1, provided.get());
+        } finally {
+            ConverterFactory.clear();
+        }
+    }
+
+    @Test
+    void generatedMapperCallsPrimitiveConvertersWithoutBoxing() throws Exception {
+        Compilation compilation = compile(
+            new String[] {"Doubler", "package fixture;\n\n" +
+                "public class Doubler implements com.automapper.core.IntConverter {\n" +
+                "    public int convert(int value) {\n" +
+                "        return value * 2;\n" +
+                "    }\n\n" +
+                "    public Integer apply(Integer value) {\n" +
+                "        throw new AssertionError(\"boxed path used\");\n" +
+                "    }\n" +
+                "}\n"},
+            annotatedBean("Stock", "stock", "Doubler", "int", "quantidade"),
+            bean("StockView", "stock", "long", "quantidade"));
+
+        assertTrue(compilation.source("StockToStockViewMapper").contains(
+            "(long) com.automapper.core.ConverterFactory.get(fixture.Doubler.class).convert("),
+            compilation.source("StockToStockViewMapper"));
+
+        Object stock = compilation.newInstance("Stock");
+        set(stock, "quantidade", 21);
+        assertEquals(42L, get(compilation.map(stock, "StockView"), "quantidade"));
+    }
+
+    @Test
+    void unrelatedTypesWithIncompatibleFieldsAreLeftToTheRuntime() throws Exception {
+        Compilation compilation = compile(
+            bean("A", "default", "Long", "id"),
+            bean("B", "default", "String", "id"));
+
+        assertFalse(compilation.generated("AToBMapper"));
+        assertFalse(compilation.generated("BToAMapper"));
+        assertTrue(compilation.notes().contains("fixture.A -> fixture.B left to the runtime"), compilation.notes());
+        assertTrue(compilation.notes().contains("fixture.B -> fixture.A left to the runtime"), compilation.notes());
+    }
+
+    @Test
+    void fieldsWithoutAccessorsAreLeftToTheRuntime() throws Exception {
+        Compilation compilation = compile(
+            new String[] {"Plain", "package fixture;\n\n@com.automapper.annotations.AutoMappable\n" +
+                                   "public class Plain {\n    String nome;\n}\n"},
+            bean("PlainView", "default", "String", "nome"));
+
+        assertFalse(compilation.generated("PlainToPlainViewMapper"));
+        assertTrue(compilation.notes().contains("has no accessible getter"), compilation.notes());
+
+        Object plain = compilation.newInstance("Plain");
+        set(plain, "nome", "Ana");
+        assertEquals("Ana", get(compilation.map(plain, "PlainView"), "nome"));
+    }
+
+    @Test
+    void serviceFileKeepsEntriesFromEarlierCompilations() throws Exception {
+        compile(bean("First", "first", "String", "nome"), bean("FirstView", "first", "String", "nome"));
+        Compilation compilation = compile(
+            bean("Second", "second", "String", "nome"), bean("SecondView", "second", "String", "nome"));
+
+        List<String> entries = Files.readAllLines(
+            workDir.resolve("classes/META-INF/services/com.automapper.core.GeneratedMapper"));
+        assertEquals(Arrays.asList("fixture.FirstToFirstViewMapper", "fixture.FirstViewToFirstMapper",
+                                   "fixture.SecondToSecondViewMapper", "fixture.SecondViewToSecondMapper"), entries);
+
+        Object first = compilation.newInstance("First");
+        set(first, "nome", "Ana");
+        assertEquals("Ana", get(compilation.map(first, "FirstView"), "nome"));
+    }
+
+    private static Object child(Compilation compilation, String nome) throws Exception {
+        Object child = compilation.newInstance("Child");
+        set(child, "nome", nome);
+        return child;
+    }
+
+    /**
+     * Fonte de um bean do pacote fixture com um único campo, getter e setter;
+     * um profile vazio deixa a classe sem @AutoMappable
+     */
+    private static String[] bean(String name, String profile, String fieldType, String field) {
+        String property = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+        String annotation = profile.isEmpty() ? "" : "@com.automapper.annotations.AutoMappable(profile = \"" + 
+                                                     profile + "\")\n";
+        String source = "package fixture;\n\n" + annotation +
+            "public class " + name + " {\n" +
+            "    private " + fieldType + " " + field + ";\n\n" +
+            "    public " + fieldType + " get" + property + "() {\n" +
+            "        return " + field + ";\n" +
+            "    }\n\n" +
+            "    public void set" + property + "(" + fieldType + " " + field + ") {\n" +
+            "        this." + field + " = " + field + ";\n" +
+            "    }\n" +
+            "}\n";
+        return new String[] {name, source};
+    }
+
+    /**
+     * Como bean, com @UseConverter no campo
+     */
+    private static String[] annotatedBean(String name, String profile, String converter, String fieldType,
+                                          String field) {
+        String[] bean = bean(name, profile, fieldType, field);
+        bean[1] = bean[1].replace("    private " + fieldType + " " + field + ";",
+            "    @com.automapper.annotations.UseConverter(" + converter + ".class)\n" +
+            "    private " + fieldType + " " + field + ";");
+        return bean;
+    }
+
+    private Compilation compile(String[]... beans) throws IOException {
+        Path sources = Files.createDirectories(workDir.resolve("src/fixture"));
+        Path classes = Files.createDirectories(workDir.resolve("classes"));
+        Path generated = Files.createDirectories(workDir.resolve("generated"));
+        List<Path> files = new ArrayList<>();
+        for (String[] bean : beans) {
+            Path file = sources.resolve(bean[0] + ".java");
+            Files.write(file, bean[1].getBytes());
+            files.add(file);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                Arrays.asList("-classpath", System.getProperty("java.class.path") + File.pathSeparator + classes,
+                              "-d", classes.toString(), "-s", generated.toString()),
+                null, fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(Arrays.asList(new AutoMapperProcessor()));
+            boolean success = task.call();
+            assertTrue(success, diagnostics.getDiagnostics().toString());
+        }
+        return new Compilation(classes, generated, diagnostics.getDiagnostics());
+    }
+
+    private static Object get(Object bean, String field) throws Exception {
+        Field declared = bean.getClass().getDeclaredField(field);
+        declared.setAccessible(true);
+        return declared.get(bean);
+    }
+
+    private static void set(Object bean, String field, Object value) throws Exception {
+        Field declared = bean.getClass().getDeclaredField(field);
+        declared.setAccessible(true);
+        declared.set(bean, value);
+    }
+
+    /**
+     * Resultado da compilação das fixtures, carregado em um class loader
+     * próprio para que o ServiceLoader encontre os mappers gerados
+     */
+    private static final class Compilation {
+        private final Path generated;
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+        private final URLClassLoader loader;
+
+        Compilation(Path classes, Path generated, List<Diagnostic<? extends JavaFileObject>> diagnostics)
+                throws IOException {
+            this.generated = generated;
+            this.diagnostics = diagnostics;
+            this.loader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+                AutoMapperProcessorTest.class.getClassLoader());
+        }
+
+        boolean generated(String mapper) {
+            return Files.exists(generated.resolve("fixture/" + mapper + ".java"));
+        }
+
+        String source(String mapper) throws IOException {
+            return new String(Files.readAllBytes(generated.resolve("fixture/" + mapper + ".java")));
+        }
+
+        String notes() {
+            return diagnostics.stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.joining("\n"));
+        }
+
+        Class<?> load(String name) throws ClassNotFoundException {
+            return loader.loadClass("fixture." + name);
+        }
+
+        Object newInstance(String name) throws Exception {
+            return load(name).getConstructor().newInstance();
+        }
+
+        @SuppressWarnings("unchecked")
+        Object map(Object source, String targetName) throws Exception {
+            AutoMapper<Object, Object> mapper = 
+                (AutoMapper<Object, Object>) AutoMapper.create(source.getClass(), load(targetName));
+            return mapper.map(source);
+        }
+    }
+}
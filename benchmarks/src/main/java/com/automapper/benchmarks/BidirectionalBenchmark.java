@@ -0,0 +1,50 @@
+package com.automapper.benchmarks;
+
+import com.automapper.core.AutoMapper;
+import com.automapper.core.BidirectionalMapper;
+import com.automapper.dto.EnderecoDto;
+import com.automapper.viewmodel.EnderecoViewModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Ida e volta pelo BidirectionalMapper (EnderecoDto -> EnderecoViewModel ->
+ * EnderecoDto) contra a versão manual
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BidirectionalBenchmark {
+    private BidirectionalMapper<EnderecoDto, EnderecoViewModel> mapper;
+    private EnderecoDto endereco;
+
+    @Setup
+    public void setup() {
+        mapper = AutoMapper.createBidirectional(EnderecoDto.class, EnderecoViewModel.class);
+        mapper.getForwardMapper().freeze();
+        mapper.getReverseMapper().freeze();
+        endereco = Fixtures.endereco(42);
+    }
+
+    @Benchmark
+    public EnderecoDto roundTrip() {
+        return mapper.mapReverse(mapper.mapForward(endereco));
+    }
+
+    @Benchmark
+    public EnderecoDto manual() {
+        return ManualMapper.reverse(ManualMapper.map(endereco));
+    }
+}
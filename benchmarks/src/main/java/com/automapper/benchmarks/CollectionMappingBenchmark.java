@@ -0,0 +1,59 @@
+package com.automapper.benchmarks;
+
+import com.automapper.core.AutoMapper;
+import com.automapper.dto.PessoaDto;
+import com.automapper.viewmodel.PessoaViewModel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapeamento em lote: mapAll sequencial, mapAllParallel (que só paraleliza a
+ * partir do parallelThreshold do mapper, 4096 elementos por padrão) e o laço
+ * manual
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionMappingBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private AutoMapper<PessoaDto, PessoaViewModel> mapper;
+    private List<PessoaDto> pessoas;
+
+    @Setup
+    public void setup() {
+        mapper = AutoMapper.create(PessoaDto.class, PessoaViewModel.class).freeze();
+        pessoas = Fixtures.pessoas(size);
+    }
+
+    @Benchmark
+    public List<PessoaViewModel> mapAll() {
+        return mapper.mapAll(pessoas);
+    }
+
+    @Benchmark
+    public List<PessoaViewModel> mapAllParallel() {
+        return mapper.mapAllParallel(pessoas);
+    }
+
+    @Benchmark
+    public List<PessoaViewModel> manual() {
+        return ManualMapper.mapAll(pessoas);
+    }
+}
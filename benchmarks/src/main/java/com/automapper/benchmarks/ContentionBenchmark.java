@@ -0,0 +1,55 @@
+package com.automapper.benchmarks;
+
+import com.automapper.core.AutoMapper;
+import com.automapper.dto.PessoaDto;
+import com.automapper.viewmodel.PessoaViewModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Todas as threads disponíveis mapeando ao mesmo tempo pelo cache
+ * compartilhado de mappers e pelo mesmo plano, para expor contenção que não
+ * aparece com uma única thread
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ContentionBenchmark {
+    private AutoMapper<PessoaDto, PessoaViewModel> mapper;
+    private PessoaDto pessoa;
+
+    @Setup
+    public void setup() {
+        mapper = AutoMapper.create(PessoaDto.class, PessoaViewModel.class).freeze();
+        pessoa = Fixtures.pessoa(1);
+    }
+
+    @Benchmark
+    public PessoaViewModel createAndMap() {
+        return AutoMapper.create(PessoaDto.class, PessoaViewModel.class).map(pessoa);
+    }
+
+    @Benchmark
+    public PessoaViewModel sharedMapper() {
+        return mapper.map(pessoa);
+    }
+
+    @Benchmark
+    public PessoaViewModel manual() {
+        return ManualMapper.map(pessoa);
+    }
+}
@@ -0,0 +1,78 @@
+package com.automapper.benchmarks;
+
+import com.automapper.annotations.UseConverter;
+import com.automapper.core.AutoMapper;
+import com.automapper.examples.NomeConverter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Custo dos conversores customizados: @UseConverter e conversor lambda,
+ * contra a chamada direta do mesmo conversor. Os pares de tipos são próprios
+ * deste benchmark para que a configuração não afete os demais.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+    private static final NomeConverter NOME_CONVERTER = new NomeConverter();
+
+    private AutoMapper<AnnotatedSource, Target> annotatedMapper;
+    private AutoMapper<PlainSource, Target> lambdaMapper;
+    private AnnotatedSource annotated;
+    private PlainSource plain;
+
+    @Setup
+    public void setup() {
+        annotatedMapper = AutoMapper.create(AnnotatedSource.class, Target.class).freeze();
+        lambdaMapper = AutoMapper.create(PlainSource.class, Target.class)
+            .addLambdaConverter("nome", nome -> NOME_CONVERTER.apply((String) nome))
+            .freeze();
+        annotated = new AnnotatedSource();
+        annotated.nome = "maria das dores";
+        plain = new PlainSource();
+        plain.nome = "maria das dores";
+    }
+
+    @Benchmark
+    public Target useConverter() {
+        return annotatedMapper.map(annotated);
+    }
+
+    @Benchmark
+    public Target lambdaConverter() {
+        return lambdaMapper.map(plain);
+    }
+
+    @Benchmark
+    public Target manual() {
+        Target target = new Target();
+        target.nome = NOME_CONVERTER.apply(plain.nome);
+        return target;
+    }
+
+    public static class AnnotatedSource {
+        @UseConverter(NomeConverter.class)
+        String nome;
+    }
+
+    public static class PlainSource {
+        String nome;
+    }
+
+    public static class Target {
+        String nome;
+    }
+}
@@ -0,0 +1,52 @@
+package com.automapper.benchmarks;
+
+import com.automapper.core.AutoMapper;
+import com.automapper.dto.EnderecoDto;
+import com.automapper.dto.PessoaDto;
+import com.automapper.viewmodel.EnderecoViewModel;
+import com.automapper.viewmodel.PessoaViewModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Custo de AutoMapper.create. No caso frio, os mappers do par e do objeto
+ * aninhado são descartados a cada chamada, então o primeiro map processa as
+ * anotações e compila os planos; os metadados de classe continuam em cache,
+ * como após o primeiro uso em uma aplicação. O caso quente mede a consulta ao
+ * cache de mappers.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateBenchmark {
+    private PessoaDto pessoa;
+
+    @Setup
+    public void setup() {
+        pessoa = Fixtures.pessoa(1);
+    }
+
+    @Benchmark
+    public PessoaViewModel coldCreateAndMap() {
+        AutoMapper.evict(PessoaDto.class, PessoaViewModel.class);
+        AutoMapper.evict(EnderecoDto.class, EnderecoViewModel.class);
+        return AutoMapper.create(PessoaDto.class, PessoaViewModel.class).map(pessoa);
+    }
+
+    @Benchmark
+    public AutoMapper<PessoaDto, PessoaViewModel> cachedCreate() {
+        return AutoMapper.create(PessoaDto.class, PessoaViewModel.class);
+    }
+}
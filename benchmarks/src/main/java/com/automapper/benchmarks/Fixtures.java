@@ -0,0 +1,34 @@
+package com.automapper.benchmarks;
+
+import com.automapper.dto.EnderecoDto;
+import com.automapper.dto.PessoaDto;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dados de entrada compartilhados pelos benchmarks
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static EnderecoDto endereco(int numero) {
+        return new EnderecoDto("Rua das Flores", numero);
+    }
+
+    static PessoaDto pessoa(int indice) {
+        return new PessoaDto("joão da silva " + indice, LocalDate.of(1990, 1 + indice % 12, 1 + indice % 28),
+            endereco(indice), Arrays.asList("(11) 99999-0000", "(11) 3333-0000"), 8.5);
+    }
+
+    static List<PessoaDto> pessoas(int quantidade) {
+        List<PessoaDto> pessoas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            pessoas.add(pessoa(i));
+        }
+        return pessoas;
+    }
+}
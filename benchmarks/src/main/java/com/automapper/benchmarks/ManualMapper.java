@@ -0,0 +1,62 @@
+package com.automapper.benchmarks;
+
+import com.automapper.dto.EnderecoDto;
+import com.automapper.dto.PessoaDto;
+import com.automapper.examples.NomeConverter;
+import com.automapper.viewmodel.EnderecoViewModel;
+import com.automapper.viewmodel.PessoaViewModel;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mapeamento escrito à mão com o mesmo resultado do AutoMapper, usado como
+ * linha de base: é o custo mínimo esperado para cada operação
+ */
+final class ManualMapper {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final NomeConverter NOME_CONVERTER = new NomeConverter();
+
+    private ManualMapper() {
+    }
+
+    static PessoaViewModel map(PessoaDto source) {
+        PessoaViewModel target = new PessoaViewModel();
+        if (source.getNomeCompleto() != null) {
+            target.setNome(NOME_CONVERTER.apply(source.getNomeCompleto()));
+        }
+        if (source.getDtNascimento() != null) {
+            target.setDataNascimento(source.getDtNascimento().format(DATE_FORMAT));
+        }
+        if (source.getEndereco() != null) {
+            target.setEndereco(map(source.getEndereco()));
+        }
+        if (source.getTelefones() != null) {
+            target.setTelefones(new ArrayList<>(source.getTelefones()));
+        }
+        return target;
+    }
+
+    static EnderecoViewModel map(EnderecoDto source) {
+        EnderecoViewModel target = new EnderecoViewModel();
+        target.setLogradouro(source.getLogradouro());
+        target.setNumero(source.getNumero());
+        return target;
+    }
+
+    static EnderecoDto reverse(EnderecoViewModel source) {
+        EnderecoDto target = new EnderecoDto();
+        target.setLogradouro(source.getLogradouro());
+        target.setNumero(source.getNumero());
+        return target;
+    }
+
+    static List<PessoaViewModel> mapAll(Collection<PessoaDto> sources) {
+        List<PessoaViewModel> targets = new ArrayList<>(sources.size());
+        for (PessoaDto source : sources) {
+            targets.add(source == null ? null : map(source));
+        }
+        return targets;
+    }
+}
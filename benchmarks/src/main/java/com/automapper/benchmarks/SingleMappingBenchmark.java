@@ -0,0 +1,63 @@
+package com.automapper.benchmarks;
+
+import com.automapper.core.AutoMapper;
+import com.automapper.dto.EnderecoDto;
+import com.automapper.dto.PessoaDto;
+import com.automapper.viewmodel.EnderecoViewModel;
+import com.automapper.viewmodel.PessoaViewModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapeamento de um único objeto: PessoaDto completo (conversor, data, objeto
+ * aninhado e coleção) e EnderecoDto isolado, cada um contra a versão manual
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingleMappingBenchmark {
+    private AutoMapper<PessoaDto, PessoaViewModel> pessoaMapper;
+    private AutoMapper<EnderecoDto, EnderecoViewModel> enderecoMapper;
+    private PessoaDto pessoa;
+    private EnderecoDto endereco;
+
+    @Setup
+    public void setup() {
+        pessoaMapper = AutoMapper.create(PessoaDto.class, PessoaViewModel.class).freeze();
+        enderecoMapper = AutoMapper.create(EnderecoDto.class, EnderecoViewModel.class).freeze();
+        pessoa = Fixtures.pessoa(1);
+        endereco = Fixtures.endereco(1);
+    }
+
+    @Benchmark
+    public PessoaViewModel pessoaAutoMapper() {
+        return pessoaMapper.map(pessoa);
+    }
+
+    @Benchmark
+    public PessoaViewModel pessoaManual() {
+        return ManualMapper.map(pessoa);
+    }
+
+    @Benchmark
+    public EnderecoViewModel enderecoAutoMapper() {
+        return enderecoMapper.map(endereco);
+    }
+
+    @Benchmark
+    public EnderecoViewModel enderecoManual() {
+        return ManualMapper.map(endereco);
+    }
+}
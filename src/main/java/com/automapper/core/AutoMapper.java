@@ -1,31 +1,95 @@
 package com.automapper.core;
 
-import com.automapper.annotations.*;
+import com.automapper.metrics.MappingMetrics;
+import com.automapper.metrics.MetricsRegistry;
 import com.automapper.validation.TypeValidator;
 import com.automapper.validation.ValidationResult;
 import java.lang.reflect.Field;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class AutoMapper<TSource, TTarget> {
     private final Class<TSource> sourceClass;
     private final Class<TTarget> targetClass;
-    private final Map<String, String> customMappings = new HashMap<>();
-    private final Map<String, TypeConverter<Object, Object>> typeConverters = new HashMap<>();
-    private final Set<String> ignoredFields = new HashSet<>();
-    private final Map<String, Function<Object, Object>> lambdaConverters = new HashMap<>();
+    private final AtomicReference<MapperSettings> settings;
+    private volatile MappingPlan plan;
+    private volatile MappingPlan incrementalPlan;
+    private final Map<Set<String>, MappingProjection<TSource, TTarget>> projections = 
+        new LinkedHashMap<Set<String>, MappingProjection<TSource, TTarget>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Set<String>, MappingProjection<TSource, TTarget>> eldest) {
+                return size() > MAX_CACHED_PROJECTIONS;
+            }
+        };
+    private volatile Validation validation;
     
-    private static final Map<String, AutoMapper<?, ?>> mapperCache = new HashMap<>();
-    private static final DateTimeFormatter DEFAULT_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    /**
+     * Cache de mappers por par (fonte, alvo). Cada entrada fica associada à
+     * classe cujo class loader é descendente do da outra (a fonte, se os
+     * loaders forem iguais ou não relacionados): o mapper referencia as duas
+     * classes, então guardá-lo na classe do loader mais antigo impediria a
+     * coleta do loader de uma aplicação reimplantada. A leitura não trava nem
+     * aloca.
+     */
+    private static final ClassValue<Map<Class<?>, AutoMapper<?, ?>>> mappersBySource = mapperTable();
+    private static final ClassValue<Map<Class<?>, AutoMapper<?, ?>>> mappersByTarget = mapperTable();
+    private static final int PARALLEL_LEAF_SIZE = 1024;
+    private static final int MAX_CACHED_PROJECTIONS = 256;
 
     @SuppressWarnings("unchecked")
     public static <S, T> AutoMapper<S, T> create(Class<S> sourceClass, Class<T> targetClass) {
-        String key = sourceClass.getName() + "->" + targetClass.getName();
-        return (AutoMapper<S, T>) mapperCache.computeIfAbsent(key, 
-            k -> new AutoMapper<>(sourceClass, targetClass));
+        boolean byTarget = ownedByTarget(sourceClass, targetClass);
+        Map<Class<?>, AutoMapper<?, ?>> mappers = byTarget 
+            ? mappersByTarget.get(targetClass) : mappersBySource.get(sourceClass);
+        Class<?> key = byTarget ? sourceClass : targetClass;
+        AutoMapper<?, ?> mapper = mappers.get(key);
+        if (mapper == null) {
+            mapper = mappers.computeIfAbsent(key, k -> new AutoMapper<>(sourceClass, targetClass));
+        }
+        return (AutoMapper<S, T>) mapper;
+    }
+
+    /**
+     * Remove do cache o mapper de um par de tipos; a próxima chamada a
+     * create cria um novo mapper
+     */
+    public static void evict(Class<?> sourceClass, Class<?> targetClass) {
+        if (ownedByTarget(sourceClass, targetClass)) {
+            mappersByTarget.get(targetClass).remove(sourceClass);
+        } else {
+            mappersBySource.get(sourceClass).remove(targetClass);
+        }
+    }
+
+    private static ClassValue<Map<Class<?>, AutoMapper<?, ?>>> mapperTable() {
+        return new ClassValue<Map<Class<?>, AutoMapper<?, ?>>>() {
+            @Override
+            protected Map<Class<?>, AutoMapper<?, ?>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    /**
+     * Verifica se o loader do alvo descende estritamente do loader da fonte
+     */
+    private static boolean ownedByTarget(Class<?> sourceClass, Class<?> targetClass) {
+        ClassLoader sourceLoader = sourceClass.getClassLoader();
+        ClassLoader targetLoader = targetClass.getClassLoader();
+        if (targetLoader == sourceLoader) {
+            return false;
+        }
+        for (ClassLoader loader = targetLoader; loader != null; loader = loader.getParent()) {
+            if (loader.getParent() == sourceLoader) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -42,62 +106,43 @@ public class AutoMapper<TSource, TTarget> {
         return TypeValidator.validate(sourceClass, targetClass);
     }
 
+    /**
+     * Verifica se os valores do tipo fonte são convertidos no tipo alvo pela
+     * mesma resolução de conversores usada na construção dos planos
+     * (conversores registrados, numéricos, datas, coleções e mapas elemento a
+     * elemento, Optional, objetos aninhados e atribuição direta)
+     */
+    public static boolean canConvert(Type sourceType, Type targetType) {
+        MapperSettings defaults = new MapperSettings(Collections.emptyMap(), Collections.emptyMap(),
+            Collections.emptySet(), null);
+        return canConvert(defaults, ConverterRegistry.table(), sourceType, targetType);
+    }
+
     private AutoMapper(Class<TSource> sourceClass, Class<TTarget> targetClass) {
         this.sourceClass = sourceClass;
         this.targetClass = targetClass;
-        processAnnotations();
+        this.settings = new AtomicReference<>(processAnnotations());
     }
 
     /**
      * Processa as anotações das classes para configuração automática
      */
-    private void processAnnotations() {
-        // Processa anotações da classe fonte
-        Field[] sourceFields = getAllFields(sourceClass);
-        
-        for (Field field : sourceFields) {
-            // Processa anotação @Ignore
-            if (field.isAnnotationPresent(Ignore.class)) {
-                ignoredFields.add(field.getName());
-            }
-            
-            // Processa anotação @MapTo
-            if (field.isAnnotationPresent(MapTo.class)) {
-                MapTo mapTo = field.getAnnotation(MapTo.class);
-                customMappings.put(field.getName(), mapTo.value());
-            }
-            
-            // Processa anotação @UseConverter
-            if (field.isAnnotationPresent(UseConverter.class)) {
-                UseConverter useConverter = field.getAnnotation(UseConverter.class);
-                try {
-                    Object converterInstance = useConverter.value().getDeclaredConstructor().newInstance();
-                    if (converterInstance instanceof TypeConverter) {
-                        @SuppressWarnings("unchecked")
-                        TypeConverter<Object, Object> converter = (TypeConverter<Object, Object>) converterInstance;
-                        typeConverters.put(field.getName(), converter);
-                    }
-                } catch (Exception e) {
-                    throw new RuntimeException("Error creating converter for field " + field.getName(), e);
-                }
-            }
-        }
-        
-        // Processa anotações da classe alvo para criar mapeamentos reversos
-        Field[] targetFields = getAllFields(targetClass);
-        
-        for (Field field : targetFields) {
-            // Processa anotação @MapTo no alvo para criar mapeamento reverso
-            if (field.isAnnotationPresent(MapTo.class)) {
-                MapTo mapTo = field.getAnnotation(MapTo.class);
-                // Cria mapeamento reverso: campo_fonte -> campo_alvo
-                customMappings.put(mapTo.value(), field.getName());
-            }
-        }
+    private MapperSettings processAnnotations() {
+        ClassMetadata source = ClassMetadata.of(sourceClass);
+        Map<String, String> customMappings = new HashMap<>(source.getRenames());
+        Map<String, Class<?>> converterTypes = new HashMap<>(source.getConverterTypes());
+        Set<String> ignoredFields = new HashSet<>(source.getIgnoredFields());
+
+        // @MapTo no alvo cria o mapeamento reverso: campo_fonte -> campo_alvo
+        ClassMetadata.of(targetClass).getRenames()
+            .forEach((targetField, sourceField) -> customMappings.put(sourceField, targetField));
+
+        return new MapperSettings(customMappings, converterTypes, ignoredFields,
+            GeneratedMappers.find(sourceClass, targetClass));
     }
 
     public AutoMapper<TSource, TTarget> configureMapping(Map<String, String> customMappings) {
-        this.customMappings.putAll(customMappings);
+        settings.updateAndGet(current -> current.withCustomMappings(customMappings));
         return this;
     }
 
@@ -114,7 +159,7 @@ public class AutoMapper<TSource, TTarget> {
      * Ignora um campo específico
      */
     public AutoMapper<TSource, TTarget> ignoreField(String fieldName) {
-        ignoredFields.add(fieldName);
+        settings.updateAndGet(current -> current.withIgnoredField(fieldName));
         return this;
     }
 
@@ -122,13 +167,155 @@ public class AutoMapper<TSource, TTarget> {
      * Adiciona um conversor lambda
      */
     public AutoMapper<TSource, TTarget> addLambdaConverter(String fieldName, Function<Object, Object> converter) {
-        lambdaConverters.put(fieldName, converter);
+        settings.updateAndGet(current -> current.withLambdaConverter(fieldName, converter));
         return this;
     }
 
+    /**
+     * Adiciona um conversor de tipo para um campo; aceita também as
+     * especializações primitivas (IntConverter, LongToObjectConverter...)
+     */
+    @SuppressWarnings("unchecked")
     public AutoMapper<TSource, TTarget> addTypeConverter(String propertyName, 
-                                                         TypeConverter<Object, Object> converter) {
-        this.typeConverters.put(propertyName, converter);
+                                                         TypeConverter<?, ?> converter) {
+        TypeConverter<Object, Object> objectConverter = (TypeConverter<Object, Object>) converter;
+        settings.updateAndGet(current -> current.withTypeConverter(propertyName, objectConverter));
+        return this;
+    }
+
+    /**
+     * Define a convenção de nomes usada para associar campos sem
+     * correspondente exato (por exemplo data_nascimento e dataNascimento, ou
+     * dtNascimento e nascimento). Os nomes são normalizados uma única vez na
+     * construção do plano; renomeações explícitas têm precedência.
+     */
+    public AutoMapper<TSource, TTarget> namingConvention(NamingConvention convention) {
+        settings.updateAndGet(current -> current.withNamingConvention(convention));
+        return this;
+    }
+
+    /**
+     * Ativa o achatamento: campos do alvo sem correspondente direto são
+     * preenchidos a partir de caminhos aninhados da fonte com o mesmo nome
+     * concatenado (endereco.cidade -> enderecoCidade), respeitando a convenção
+     * de nomes configurada
+     */
+    public AutoMapper<TSource, TTarget> flatten() {
+        settings.updateAndGet(current -> current.withFlattening(true));
+        return this;
+    }
+
+    /**
+     * Define o tratamento de valores nulos da fonte: SKIP (padrão) mantém o
+     * valor atual do alvo e OVERWRITE escreve null, ou o valor padrão em
+     * campos primitivos
+     */
+    public AutoMapper<TSource, TTarget> nullValues(NullValuePolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Null value policy must not be null");
+        }
+        settings.updateAndGet(current -> current.withNullValuePolicy(policy));
+        return this;
+    }
+
+    /**
+     * Ativa o acesso por classes geradas em tempo de execução, que chamam
+     * diretamente getters, setters e o construtor do par de tipos. Campos sem
+     * getter e setter continuam usando o acesso padrão. Apenas o acesso às
+     * propriedades é gerado: o plano e os conversores seguem os mesmos; para
+     * um mapper gerado por par, use o automapper-processor.
+     */
+    public AutoMapper<TSource, TTarget> useGeneratedAccessors() {
+        settings.updateAndGet(MapperSettings::withGeneratedAccessors);
+        return this;
+    }
+
+    /**
+     * Ativa o modo de grafo: cada chamada de map rastreia as instâncias de
+     * origem já mapeadas, por identidade, e reutiliza o destino criado para
+     * elas. Referências cíclicas (pai/filho, associações bidirecionais) deixam
+     * de estourar a pilha e nós compartilhados não são duplicados.
+     */
+    public AutoMapper<TSource, TTarget> preserveReferences() {
+        settings.updateAndGet(current -> current.withPreserveReferences(true));
+        return this;
+    }
+
+    /**
+     * Define o tamanho mínimo de coleção a partir do qual mapAllParallel
+     * divide o trabalho entre threads (padrão 4096). Mappers com elementos
+     * caros de converter compensam o paralelismo com lotes menores.
+     */
+    public AutoMapper<TSource, TTarget> parallelThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive: " + threshold);
+        }
+        settings.updateAndGet(current -> current.withParallelThreshold(threshold));
+        return this;
+    }
+
+    /**
+     * Ativa a verificação de overflow nas conversões numéricas: valores que não
+     * cabem no tipo de destino (por exemplo long para int) lançam
+     * ArithmeticException em vez de serem truncados
+     */
+    public AutoMapper<TSource, TTarget> checkOverflow() {
+        settings.updateAndGet(current -> current.withCheckOverflow(true));
+        return this;
+    }
+
+    /**
+     * Define o padrão usado para converter um tipo temporal (LocalDate,
+     * LocalDateTime, Instant, OffsetDateTime ou Date) de e para String.
+     * Instant e Date são formatados e lidos em UTC.
+     */
+    public AutoMapper<TSource, TTarget> temporalFormat(Class<?> temporalType, String pattern) {
+        TemporalConverters.validatePattern(temporalType, pattern);
+        settings.updateAndGet(current -> current.withTemporalPattern(temporalType, pattern));
+        return this;
+    }
+
+    /**
+     * Valida o mapeamento com a configuração atual do mapper (renomeações e
+     * campos ignorados, inclusive os definidos por profiles) e compila o
+     * plano, de modo que conversores incompatíveis também são reportados.
+     * A validação estrutural fica em cache até a próxima reconfiguração.
+     */
+    public ValidationResult validateMapping() {
+        MapperSettings currentSettings = settings.get();
+        ConverterRegistry.Table currentConverters = ConverterRegistry.table();
+        Validation current = validation;
+        if (current == null || current.settings != currentSettings || current.converters != currentConverters) {
+            current = new Validation(currentSettings, currentConverters, TypeValidator.validate(sourceClass, 
+                targetClass, matchedNames(currentSettings), currentSettings.getIgnoredFields(),
+                (sourceField, targetField) -> hasCustomConverter(currentSettings, sourceField) 
+                    || canConvert(currentSettings, currentConverters, 
+                        sourceField.getGenericType(), targetField.getGenericType())));
+            validation = current;
+        }
+
+        try {
+            plan();
+            return current.result;
+        } catch (RuntimeException e) {
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            List<String> errors = new ArrayList<>(current.result.getErrors());
+            errors.add("Mapping plan cannot be built: " + cause.getMessage());
+            return new ValidationResult(errors, current.result.getWarnings());
+        }
+    }
+
+    /**
+     * Compila antecipadamente o plano de mapeamento da configuração atual.
+     * O plano compilado é imutável e pode ser lido por qualquer thread sem
+     * bloqueio; uma reconfiguração posterior gera um novo plano, que substitui
+     * o anterior de forma atômica.
+     */
+    public AutoMapper<TSource, TTarget> freeze() {
+        plan();
         return this;
     }
 
@@ -137,171 +324,694 @@ public class AutoMapper<TSource, TTarget> {
             return null;
         }
 
+        return mapWith(plan(), source);
+    }
+
+    /**
+     * Mapeia a fonte para uma instância existente do alvo, que é retornada,
+     * sem criar um novo objeto. Permite reutilizar destinos ou atualizar
+     * entidades no lugar; campos sem correspondente na fonte são mantidos e
+     * nulos seguem a política de nullValues. Uma fonte nula não altera o alvo.
+     */
+    public TTarget map(TSource source, TTarget target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target instance must not be null");
+        }
+        if (source == null) {
+            return target;
+        }
+
         try {
-            TTarget target = targetClass.getDeclaredConstructor().newInstance();
-            
-            Field[] sourceFields = getAllFields(sourceClass);
-            Field[] targetFields = getAllFields(targetClass);
-            Map<String, Field> targetFieldMap = Arrays.stream(targetFields)
-                .collect(Collectors.toMap(Field::getName, field -> field));
-
-            for (Field sourceField : sourceFields) {
-                sourceField.setAccessible(true);
-                
-                // Verifica se o campo deve ser ignorado
-                if (ignoredFields.contains(sourceField.getName())) {
-                    continue;
-                }
-                
-                Object sourceValue = sourceField.get(source);
-                
-                if (sourceValue == null) {
-                    continue;
-                }
+            plan().executeInto(source, target);
+            return target;
+        } catch (RuntimeException e) {
+            throw mappingError(e);
+        }
+    }
 
-                String targetFieldName = customMappings.getOrDefault(sourceField.getName(), sourceField.getName());
-                Field targetField = targetFieldMap.get(targetFieldName);
-                
-                if (targetField != null) {
-                    targetField.setAccessible(true);
-                    Object mappedValue = mapValue(sourceField, targetField, sourceValue);
-                    targetField.set(target, mappedValue);
-                }
+    /**
+     * Obtém a projeção do mapeamento sobre os caminhos do alvo informados
+     * (por exemplo nome e endereco.cidade). A projeção compila um plano que lê
+     * e converte apenas esses campos. Os caminhos são validados e normalizados
+     * antes de entrar no cache, que guarda as projeções usadas mais
+     * recentemente por mapper.
+     */
+    public MappingProjection<TSource, TTarget> projection(Set<String> paths) {
+        Set<String> key = MappingProjection.normalize(targetClass, paths);
+        synchronized (projections) {
+            MappingProjection<TSource, TTarget> projection = projections.get(key);
+            if (projection == null) {
+                projection = new MappingProjection<>(this, targetClass, key);
+                projections.put(key, projection);
             }
-            
-            return target;
-        } catch (Exception e) {
-            throw new RuntimeException("Error mapping from " + sourceClass.getName() + 
-                                     " to " + targetClass.getName(), e);
+            return projection;
         }
     }
 
-    private Object mapValue(Field sourceField, Field targetField, Object sourceValue) {
-        // 1. Verifica conversor lambda primeiro (tem prioridade mais alta)
-        if (lambdaConverters.containsKey(sourceField.getName())) {
-            return lambdaConverters.get(sourceField.getName()).apply(sourceValue);
+    /**
+     * Mapeamento incremental a partir de um instantâneo: compara cada campo
+     * mapeado entre a fonte anterior e a atual e reaplica ao alvo apenas as
+     * entradas do plano cujo valor mudou. Retorna os nomes dos campos do alvo
+     * que tiveram o valor alterado. Sem instantâneo anterior, todas as
+     * entradas são aplicadas. Objetos aninhados, coleções, mapas e arrays são
+     * comparados recursivamente; um valor mutável compartilhado pela mesma
+     * referência entre os dois instantâneos é sempre reaplicado, pois uma
+     * alteração feita no lugar não pode ser detectada.
+     */
+    public Set<String> mapChanges(TSource previous, TSource current, TTarget target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target instance must not be null");
         }
-        
-        // 2. Verifica conversor de tipo customizado (anotações)
-        if (typeConverters.containsKey(sourceField.getName())) {
-            return typeConverters.get(sourceField.getName()).apply(sourceValue);
+        if (current == null) {
+            return Collections.emptySet();
         }
 
-        Class<?> sourceType = sourceField.getType();
-        Class<?> targetType = targetField.getType();
+        try {
+            return propertyPlan().executeChanges(previous, current, target);
+        } catch (RuntimeException e) {
+            throw mappingError(e);
+        }
+    }
 
-        // 3. Tipos idênticos
-        if (sourceType.equals(targetType)) {
-            return sourceValue;
+    /**
+     * Mapeamento incremental a partir dos campos da fonte que o chamador sabe
+     * terem mudado: reaplica ao alvo apenas as entradas do plano que leem
+     * esses campos e retorna os nomes dos campos do alvo alterados
+     */
+    public Set<String> mapChangedFields(TSource source, TTarget target, Set<String> changedSourceFields) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target instance must not be null");
+        }
+        for (String field : changedSourceFields) {
+            if (ClassMetadata.of(sourceClass).getField(field) == null) {
+                throw new IllegalArgumentException("Unknown source field '" + field + "' in " + 
+                                                   sourceClass.getName());
+            }
+        }
+        if (source == null) {
+            return Collections.emptySet();
         }
 
-        // 4. Conversões automáticas de tipos primitivos
-        if (isConvertiblePrimitive(sourceType, targetType)) {
-            return convertPrimitive(sourceValue, targetType);
+        try {
+            return propertyPlan().executeChanges(source, target, changedSourceFields);
+        } catch (RuntimeException e) {
+            throw mappingError(e);
         }
+    }
+
+    /**
+     * Mapeia os elementos de um stream sob demanda, à medida que são
+     * consumidos, sem materializar a fonte nem o resultado
+     */
+    public Stream<TTarget> mapStream(Stream<? extends TSource> sources) {
+        MappingPlan current = plan();
+        return sources.map(source -> mapWith(current, source));
+    }
+
+    /**
+     * Mapeia os elementos de um iterator sob demanda, um a um a cada chamada
+     * de next, sem materializar a fonte nem o resultado
+     */
+    public Iterator<TTarget> mapIterator(Iterator<? extends TSource> sources) {
+        MappingPlan current = plan();
+        return new Iterator<TTarget>() {
+            @Override
+            public boolean hasNext() {
+                return sources.hasNext();
+            }
+
+            @Override
+            public TTarget next() {
+                return mapWith(current, sources.next());
+            }
+
+            @Override
+            public void remove() {
+                sources.remove();
+            }
+        };
+    }
+
+    /**
+     * Mapeia todos os elementos de uma coleção, resolvendo o plano uma única
+     * vez para o lote. Elementos nulos são mapeados para null.
+     */
+    public List<TTarget> mapAll(Collection<? extends TSource> sources) {
+        return mapInto(sources, new ArrayList<>(sources.size()));
+    }
 
-        // 5. Conversão de data para string
-        if (sourceType.equals(LocalDate.class) && targetType.equals(String.class)) {
-            return ((LocalDate) sourceValue).format(DEFAULT_DATE_FORMAT);
+    /**
+     * Mapeia todos os elementos de um array, resolvendo o plano uma única vez
+     * para o lote
+     */
+    public List<TTarget> mapAll(TSource[] sources) {
+        return mapAll(Arrays.asList(sources));
+    }
+
+    /**
+     * Mapeia todos os elementos de uma coleção para dentro da coleção de
+     * destino informada, que é retornada
+     */
+    public <C extends Collection<? super TTarget>> C mapInto(Collection<? extends TSource> sources, C targets) {
+        if (targets instanceof ArrayList) {
+            ((ArrayList<?>) targets).ensureCapacity(targets.size() + sources.size());
         }
-        
-        // 6. Conversão de string para data (formato dd/MM/yyyy)
-        if (sourceType.equals(String.class) && targetType.equals(LocalDate.class)) {
-            try {
-                return LocalDate.parse((String) sourceValue, DEFAULT_DATE_FORMAT);
-            } catch (Exception e) {
-                // Se falhar, tenta outros formatos comuns
-                try {
-                    return LocalDate.parse((String) sourceValue);
-                } catch (Exception ex) {
-                    throw new RuntimeException("Cannot convert string '" + sourceValue + "' to LocalDate", ex);
-                }
+
+        MappingPlan current = plan();
+        try {
+            for (TSource source : sources) {
+                targets.add(source == null ? null : execute(current, source));
             }
+        } catch (RuntimeException e) {
+            throw mappingError(e);
         }
+        return targets;
+    }
 
-        // 7. Coleções
-        if (isCollectionType(sourceType) && isCollectionType(targetType)) {
-            return mapCollection(sourceValue, targetType);
+    /**
+     * Mapeia uma coleção em paralelo no pool comum do fork-join
+     */
+    public List<TTarget> mapAllParallel(Collection<? extends TSource> sources) {
+        return mapAllParallel(sources, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Mapeia uma coleção em paralelo no pool informado, preservando a ordem
+     * da fonte. Coleções abaixo do limite de parallelThreshold são mapeadas
+     * sequencialmente, e a primeira falha interrompe as demais partes.
+     */
+    public List<TTarget> mapAllParallel(Collection<? extends TSource> sources, ForkJoinPool pool) {
+        int size = sources.size();
+        int threshold = settings.get().getParallelThreshold();
+        if (size < threshold || pool.getParallelism() < 2) {
+            return mapAll(sources);
         }
 
-        // 8. Objetos complexos (mapeamento recursivo)
-        if (!isSimpleType(sourceType) && !isSimpleType(targetType)) {
-            return mapComplexObject(sourceValue, sourceType, targetType);
+        // Sem tamanhos exatos nas partes não é possível calcular a posição de cada uma
+        Spliterator<?> spliterator = sources.spliterator();
+        if (!spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+            spliterator = Spliterators.spliterator(sources.toArray(), Spliterator.ORDERED);
         }
 
-        // 9. Fallback - tenta conversão direta
+        Object[] results = new Object[size];
+        long leafSize = Math.max(Math.min(PARALLEL_LEAF_SIZE, threshold), size / (pool.getParallelism() * 4L));
         try {
-            if (targetType.isAssignableFrom(sourceType)) {
-                return sourceValue;
-            }
-        } catch (Exception ignored) {}
+            pool.invoke(new ParallelMappingTask(plan(), spliterator, results, leafSize));
+        } catch (RuntimeException e) {
+            throw mappingError(e);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<TTarget> targets = (List<TTarget>) Arrays.asList(results);
+        return new ArrayList<>(targets);
+    }
+
+    TTarget mapWith(MappingPlan current, TSource source) {
+        if (source == null) {
+            return null;
+        }
 
-        return sourceValue;
+        try {
+            return execute(current, source);
+        } catch (RuntimeException e) {
+            throw mappingError(e);
+        }
     }
 
-    private Object mapComplexObject(Object sourceValue, Class<?> sourceType, Class<?> targetType) {
+    /**
+     * Executa o plano dentro do contexto da chamada de nível superior
+     */
+    TTarget mapWith(MappingPlan current, TSource source, MappingContext context) {
         try {
-            Object target = targetType.getDeclaredConstructor().newInstance();
-            
-            Field[] sourceFields = getAllFields(sourceType);
-            Field[] targetFields = getAllFields(targetType);
-            Map<String, Field> targetFieldMap = Arrays.stream(targetFields)
-                .collect(Collectors.toMap(Field::getName, field -> field));
-
-            for (Field sourceField : sourceFields) {
-                sourceField.setAccessible(true);
-                Object fieldValue = sourceField.get(sourceValue);
-                
-                if (fieldValue == null) {
-                    continue;
-                }
+            @SuppressWarnings("unchecked")
+            TTarget target = (TTarget) current.execute(source, context);
+            return target;
+        } catch (RuntimeException e) {
+            throw mappingError(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private TTarget execute(MappingPlan current, TSource source) {
+        return (TTarget) current.execute(source);
+    }
+
+    /**
+     * Nomes associados pela configuração (renomeações e convenção de nomes),
+     * no formato campo fonte -> campo alvo esperado pelo validador
+     */
+    private Map<String, String> matchedNames(MapperSettings settings) {
+        Map<String, String> names = new HashMap<>(settings.getCustomMappings());
+        new FieldMatcher(settings, ClassMetadata.of(sourceClass), ClassMetadata.of(targetClass), 
+            AutoMapper::isComplexType).matchFields()
+            .forEach((sourceField, targetField) -> names.put(sourceField.getName(), targetField.getName()));
+        return names;
+    }
+
+    /**
+     * Descrição do par de tipos, usada nos relatórios de validação
+     */
+    String describePair() {
+        return sourceClass.getName() + " -> " + targetClass.getName();
+    }
+
+    private RuntimeException mappingError(RuntimeException cause) {
+        return new RuntimeException("Error mapping from " + sourceClass.getName() + 
+                                    " to " + targetClass.getName(), cause);
+    }
+
+    /**
+     * Obtém o plano compilado para a configuração atual, construindo-o no
+     * primeiro uso ou após uma reconfiguração
+     */
+    private MappingPlan plan() {
+        MapperSettings currentSettings = settings.get();
+        ConverterRegistry.Table currentConverters = ConverterRegistry.table();
+        MappingMetrics currentMetrics = MetricsRegistry.current();
+        MappingPlan current = plan;
+        if (current == null || !current.isBuiltWith(currentSettings, currentConverters, currentMetrics)) {
+            current = buildPlan(currentSettings, currentConverters, currentMetrics);
+            plan = current;
+        }
+        return current;
+    }
+
+    /**
+     * Verifica se o plano foi construído com a configuração, os conversores e
+     * as métricas atuais
+     */
+    boolean isCurrent(MappingPlan current) {
+        return current.isBuiltWith(settings.get(), ConverterRegistry.table(), MetricsRegistry.current());
+    }
+
+    /**
+     * Constrói o plano de uma projeção com a configuração atual
+     */
+    MappingPlan buildProjectionPlan(Map<String, Set<String>> fields) {
+        return buildPropertyPlan(settings.get(), ConverterRegistry.table(), MetricsRegistry.current(), fields);
+    }
+
+    /**
+     * Obtém um plano com as entradas por campo, necessário ao mapeamento
+     * incremental e ao modo de grafo; quando o plano principal delega ao
+     * mapper gerado, um plano por campos é construído e mantido à parte
+     */
+    private MappingPlan propertyPlan() {
+        MappingPlan current = plan();
+        if (!current.isGenerated()) {
+            return current;
+        }
 
-                Field targetField = targetFieldMap.get(sourceField.getName());
-                if (targetField != null) {
-                    targetField.setAccessible(true);
-                    Object mappedValue = mapValue(sourceField, targetField, fieldValue);
-                    targetField.set(target, mappedValue);
+        MappingPlan incremental = incrementalPlan;
+        if (incremental == null 
+                || !incremental.isBuiltWith(current.getSettings(), current.getConverters(), current.getMetrics())) {
+            incremental = buildPropertyPlan(current.getSettings(), current.getConverters(), 
+                current.getMetrics(), null);
+            incrementalPlan = incremental;
+        }
+        return incremental;
+    }
+
+    /**
+     * Resolve uma única vez os pares de campos e os conversores do mapeamento
+     */
+    private MappingPlan buildPlan(MapperSettings settings, ConverterRegistry.Table converters, 
+                                  MappingMetrics metrics) {
+        // O mapper gerado não participa do contexto do modo de grafo nem
+        // conhece os conversores registrados em tempo de execução
+        if (settings.getGeneratedMapper() != null && !settings.isPreserveReferences() && converters.isEmpty()) {
+            return new MappingPlan(settings, converters, PlanMetrics.of(metrics, sourceClass, targetClass), 
+                targetClass, settings.getGeneratedMapper());
+        }
+        return buildPropertyPlan(settings, converters, metrics, null);
+    }
+
+    /**
+     * Constrói o plano com as entradas por campo, sem o mapper gerado. Com uma
+     * projeção (campo alvo -> subcaminhos), apenas os campos selecionados
+     * entram no plano.
+     */
+    private MappingPlan buildPropertyPlan(MapperSettings settings, ConverterRegistry.Table converters,
+                                          MappingMetrics metrics, Map<String, Set<String>> projection) {
+        long start = System.nanoTime();
+        PlanMetrics planMetrics = PlanMetrics.of(metrics, sourceClass, targetClass);
+        try {
+            ClassMetadata source = ClassMetadata.of(sourceClass);
+            ClassMetadata target = ClassMetadata.of(targetClass);
+            Instantiator instantiator = settings.isGeneratedAccessors()
+                ? target.generatedInstantiator()
+                : target.instantiator();
+
+            FieldMatcher matcher = new FieldMatcher(settings, source, target, AutoMapper::isComplexType);
+            Map<Field, Field> matches = matcher.matchFields();
+
+            List<PropertyMapping> properties = new ArrayList<>();
+            List<String> sourceNames = new ArrayList<>();
+            List<String> targetNames = new ArrayList<>();
+            matches.forEach((sourceField, targetField) -> {
+                if (projection != null && !projection.containsKey(targetField.getName())) {
+                    return;
                 }
+
+                Set<String> subpaths = projection != null 
+                    ? projection.get(targetField.getName()) : Collections.emptySet();
+                properties.add(subpaths.isEmpty() 
+                    ? createPropertyMapping(settings, converters, planMetrics, sourceField, targetField)
+                    : createProjectedMapping(settings, sourceField, targetField, subpaths));
+                sourceNames.add(sourceField.getName());
+                targetNames.add(targetField.getName());
+            });
+
+            if (settings.isFlattening()) {
+                matcher.flattenFields(matches.values()).forEach((targetField, path) -> {
+                    if (projection != null && !projection.containsKey(targetField.getName())) {
+                        return;
+                    }
+                    properties.add(createFlattenedMapping(settings, converters, path, targetField));
+                    // Uma alteração na raiz do caminho reaplica o campo achatado
+                    sourceNames.add(path[0].getName());
+                    targetNames.add(targetField.getName());
+                });
             }
-            
-            return target;
-        } catch (Exception e) {
-            throw new RuntimeException("Error mapping complex object", e);
+
+            MappingPlan built = new MappingPlan(settings, converters, planMetrics, targetClass, instantiator, 
+                properties.toArray(new PropertyMapping[0]), 
+                sourceNames.toArray(new String[0]), targetNames.toArray(new String[0]));
+            planMetrics.planBuilt(System.nanoTime() - start);
+            return built;
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Error building mapping plan from " + sourceClass.getName() + 
+                                     " to " + targetClass.getName(), e);
+        }
+    }
+
+    /**
+     * Cria a entrada do plano para um par de campos, usando os acessores
+     * tipados quando ambos são primitivos e não há conversor customizado
+     */
+    private PropertyMapping createPropertyMapping(MapperSettings settings, ConverterRegistry.Table converters,
+                                                  PlanMetrics metrics, Field sourceField, Field targetField) {
+        FieldAccessor sourceAccessor = createAccessor(settings, sourceField);
+        FieldAccessor targetAccessor = createAccessor(settings, targetField);
+        ValueConverter converter = resolveConverter(settings, converters, metrics, sourceField, targetField);
+
+        if (converter == ValueConverter.IDENTITY && sourceField.getType().isPrimitive() 
+                && sourceField.getType().equals(targetField.getType())) {
+            return PropertyMapping.primitiveCopy(sourceAccessor, targetAccessor, sourceField.getType());
+        }
+        if (converter instanceof NumericConverter) {
+            return PropertyMapping.numericConversion(sourceAccessor, targetAccessor, sourceField.getType(),
+                (NumericConverter) converter, settings.getNullValuePolicy(), targetField.getType());
+        }
+        if (converter instanceof SpecializedConverter && ((SpecializedConverter) converter).supportsTransfer()) {
+            return PropertyMapping.specializedConversion(sourceAccessor, targetAccessor,
+                (SpecializedConverter) converter, settings.getNullValuePolicy(), targetField.getType());
         }
+        return new PropertyMapping(sourceAccessor, targetAccessor, converter, 
+            settings.getNullValuePolicy(), targetField.getType());
     }
 
-    private Object mapCollection(Object sourceCollection, Class<?> targetType) {
-        if (!(sourceCollection instanceof Collection)) {
-            return sourceCollection;
+    /**
+     * Cria a entrada do plano para um objeto aninhado do qual a projeção pede
+     * apenas alguns campos, mapeado pela projeção do par aninhado
+     */
+    private PropertyMapping createProjectedMapping(MapperSettings settings, Field sourceField, Field targetField,
+                                                   Set<String> subpaths) {
+        if (!isComplexType(sourceField.getType()) || !isComplexType(targetField.getType())) {
+            throw new IllegalArgumentException("Projection of nested fields " + subpaths + " requires '" + 
+                targetField.getName() + "' to map between objects, not " + sourceField.getType().getName() + 
+                " -> " + targetField.getType().getName());
         }
 
-        Collection<?> source = (Collection<?>) sourceCollection;
-        
-        if (source.isEmpty()) {
-            return createEmptyCollection(targetType);
+        MappingProjection<?, ?> nested = create(sourceField.getType(), targetField.getType()).projection(subpaths);
+        return new PropertyMapping(createAccessor(settings, sourceField), createAccessor(settings, targetField),
+            nested::mapNested, settings.getNullValuePolicy(), targetField.getType());
+    }
+
+    /**
+     * Cria a entrada do plano para um campo achatado; o conversor é escolhido
+     * pelos tipos do último campo do caminho e do campo alvo
+     */
+    private PropertyMapping createFlattenedMapping(MapperSettings settings, ConverterRegistry.Table converters,
+                                                   Field[] path, Field targetField) {
+        FieldAccessor[] accessors = new FieldAccessor[path.length];
+        for (int i = 0; i < path.length; i++) {
+            accessors[i] = createAccessor(settings, path[i]);
         }
 
-        Collection<Object> result = createEmptyCollection(targetType);
-        
-        // Para coleções simples (String, etc), apenas copia
-        for (Object item : source) {
-            result.add(item);
+        Field leaf = path[path.length - 1];
+        ValueConverter converter = resolveTypeConverter(settings, converters, 
+            leaf.getGenericType(), targetField.getGenericType());
+        return PropertyMapping.nestedSource(accessors, createAccessor(settings, targetField), converter,
+            settings.getNullValuePolicy(), targetField.getType());
+    }
+
+    private FieldAccessor createAccessor(MapperSettings settings, Field field) {
+        ClassMetadata metadata = ClassMetadata.of(field.getDeclaringClass());
+        return settings.isGeneratedAccessors() ? metadata.generatedAccessor(field) : metadata.accessor(field);
+    }
+
+    /**
+     * Escolhe o conversor de valor adequado para um par de campos. Com
+     * métricas ativas os conversores customizados são medidos por campo, e as
+     * especializações primitivas passam pelo caminho com wrappers.
+     */
+    private ValueConverter resolveConverter(MapperSettings settings, ConverterRegistry.Table converters,
+                                            PlanMetrics metrics, Field sourceField, Field targetField) {
+        // 1. Verifica conversor lambda primeiro (tem prioridade mais alta)
+        Function<Object, Object> lambdaConverter = settings.getLambdaConverters().get(sourceField.getName());
+        if (lambdaConverter != null) {
+            return metrics.timed(sourceField.getName(), (value, context) -> lambdaConverter.apply(value));
         }
         
-        return result;
+        // 2. Verifica conversor de tipo customizado (programático ou de anotação)
+        TypeConverter<Object, Object> typeConverter = settings.getTypeConverters().get(sourceField.getName());
+        Class<?> converterType = settings.getConverterTypes().get(sourceField.getName());
+        if (typeConverter == null && converterType != null) {
+            typeConverter = annotatedConverter(converterType, sourceField, targetField);
+        }
+
+        if (typeConverter != null) {
+            // Especializações primitivas são chamadas sem boxing
+            SpecializedConverter specialized = SpecializedConverter.of(typeConverter, 
+                sourceField.getType(), targetField.getType(), settings.isCheckOverflow());
+            if (specialized != null) {
+                return metrics.timed(sourceField.getName(), specialized);
+            }
+            TypeConverter<Object, Object> converter = typeConverter;
+            return metrics.timed(sourceField.getName(), (value, context) -> converter.apply(value));
+        }
+
+        return resolveTypeConverter(settings, converters, 
+            sourceField.getGenericType(), targetField.getGenericType());
     }
 
-    private Collection<Object> createEmptyCollection(Class<?> collectionType) {
-        if (List.class.isAssignableFrom(collectionType)) {
-            return new ArrayList<>();
-        } else if (Set.class.isAssignableFrom(collectionType)) {
-            return new HashSet<>();
-        } else {
-            return new ArrayList<>(); // fallback
+    /**
+     * Obtém a instância compartilhada de um conversor de @UseConverter e
+     * verifica se ele é um TypeConverter compatível com os campos
+     */
+    private static TypeConverter<Object, Object> annotatedConverter(Class<?> converterType, Field sourceField,
+                                                                    Field targetField) {
+        Object instance = ConverterFactory.get(converterType);
+        if (!(instance instanceof TypeConverter)) {
+            throw new IllegalArgumentException("Converter " + converterType.getName() + " declared on field '" +
+                                               sourceField.getName() + "' must implement TypeConverter");
+        }
+
+        @SuppressWarnings("unchecked")
+        TypeConverter<Object, Object> converter = (TypeConverter<Object, Object>) instance;
+        if (SpecializedConverter.isSpecialized(converter)) {
+            // Os tipos primitivos são verificados pelo SpecializedConverter
+            return converter;
+        }
+
+        Class<?> input = GenericTypes.interfaceArgument(converterType, TypeConverter.class, 0);
+        if (!compatible(input, sourceField.getType())) {
+            throw new IllegalArgumentException("Converter " + converterType.getName() + " accepts " + 
+                input.getName() + " but field '" + sourceField.getName() + "' is " + sourceField.getType().getName());
+        }
+
+        Class<?> output = GenericTypes.interfaceArgument(converterType, TypeConverter.class, 1);
+        if (!compatible(output, targetField.getType())) {
+            throw new IllegalArgumentException("Converter " + converterType.getName() + " returns " + 
+                output.getName() + " but field '" + targetField.getName() + "' is " + targetField.getType().getName());
+        }
+        return converter;
+    }
+
+    /**
+     * Tipos compatíveis quando um pode ser convertido no outro por cast
+     */
+    private static boolean compatible(Class<?> declaredType, Class<?> fieldType) {
+        Class<?> declared = GenericTypes.boxed(declaredType);
+        Class<?> field = GenericTypes.boxed(fieldType);
+        return declared.isAssignableFrom(field) || field.isAssignableFrom(declared);
+    }
+
+    /**
+     * Campo com conversor lambda, de tipo ou de @UseConverter, verificado na
+     * construção do plano
+     */
+    private static boolean hasCustomConverter(MapperSettings settings, Field sourceField) {
+        String name = sourceField.getName();
+        return settings.getLambdaConverters().containsKey(name) || settings.getTypeConverters().containsKey(name)
+            || settings.getConverterTypes().containsKey(name);
+    }
+
+    /**
+     * Verifica se a resolução de conversores encontra uma conversão para o par
+     * de tipos; em coleções, mapas e Optional os elementos também precisam
+     * ser conversíveis, e o fallback de atribuição direta só vale para tipos
+     * atribuíveis
+     */
+    private static boolean canConvert(MapperSettings settings, ConverterRegistry.Table converters,
+                                      Type sourceGenericType, Type targetGenericType) {
+        Class<?> sourceType = GenericTypes.rawType(sourceGenericType);
+        Class<?> targetType = GenericTypes.rawType(targetGenericType);
+        if (converters.find(sourceType, targetType) != null) {
+            return true;
+        }
+
+        if (isCollectionType(sourceType) && isCollectionType(targetType)) {
+            return canConvertElement(settings, converters,
+                GenericTypes.elementType(sourceGenericType), GenericTypes.elementType(targetGenericType));
+        }
+        if (Map.class.isAssignableFrom(sourceType) && Map.class.isAssignableFrom(targetType)) {
+            return canConvertElement(settings, converters, GenericTypes.typeArgument(sourceGenericType, 0),
+                    GenericTypes.typeArgument(targetGenericType, 0))
+                && canConvertElement(settings, converters, GenericTypes.typeArgument(sourceGenericType, 1),
+                    GenericTypes.typeArgument(targetGenericType, 1));
+        }
+        if (sourceType.equals(Optional.class) && targetType.equals(Optional.class)) {
+            return canConvertElement(settings, converters, GenericTypes.typeArgument(sourceGenericType, 0),
+                GenericTypes.typeArgument(targetGenericType, 0));
+        }
+
+        ValueConverter converter = resolveTypeConverter(settings, converters, sourceGenericType, targetGenericType);
+        return converter != ValueConverter.IDENTITY
+            || GenericTypes.boxed(targetType).isAssignableFrom(GenericTypes.boxed(sourceType));
+    }
+
+    /**
+     * Elementos de tipo desconhecido têm a referência copiada, como em
+     * resolveElementConverter
+     */
+    private static boolean canConvertElement(MapperSettings settings, ConverterRegistry.Table converters,
+                                             Type sourceElementType, Type targetElementType) {
+        if (GenericTypes.rawType(sourceElementType).equals(Object.class) 
+                || GenericTypes.rawType(targetElementType).equals(Object.class)) {
+            return true;
+        }
+        return canConvert(settings, converters, sourceElementType, targetElementType);
+    }
+
+    /**
+     * Escolhe o conversor adequado para um par de tipos, considerando os
+     * argumentos genéricos de coleções, mapas, arrays e Optional
+     */
+    private static ValueConverter resolveTypeConverter(MapperSettings settings, ConverterRegistry.Table converters,
+                                                Type sourceGenericType, Type targetGenericType) {
+        Class<?> sourceType = GenericTypes.rawType(sourceGenericType);
+        Class<?> targetType = GenericTypes.rawType(targetGenericType);
+
+        // 3. Conversores globais registrados para o par de tipos (ou supertipos)
+        Function<Object, Object> registered = converters.find(sourceType, targetType);
+        if (registered != null) {
+            return (value, context) -> registered.apply(value);
+        }
+
+        // 4. Tipos idênticos
+        if (sourceGenericType.equals(targetGenericType)) {
+            return ValueConverter.IDENTITY;
+        }
+
+        // 5. Conversões automáticas de tipos primitivos, sem wrappers intermediários
+        if (NumericConverter.supports(sourceType) && NumericConverter.supports(targetType)) {
+            return new NumericConverter(targetType, settings.isCheckOverflow());
+        }
+
+        if (isConvertiblePrimitive(sourceType, targetType)) {
+            return (value, context) -> convertPrimitive(value, targetType);
+        }
+
+        // 6. Datas e horas de e para String (dd/MM/yyyy, ISO-8601 ou o padrão
+        // configurado) e entre tipos temporais
+        ValueConverter temporal = TemporalConverters.resolve(sourceType, targetType, 
+            settings.getTemporalPatterns());
+        if (temporal != null) {
+            return temporal;
+        }
+
+        // 7. Coleções, arrays, mapas e Optional, convertendo cada elemento
+        if (isCollectionType(sourceType) && isCollectionType(targetType)) {
+            ValueConverter element = resolveElementConverter(settings, converters,
+                GenericTypes.elementType(sourceGenericType), GenericTypes.elementType(targetGenericType));
+            return targetType.isArray()
+                ? CollectionConverters.toArray(sourceType, targetType, element)
+                : CollectionConverters.toCollection(sourceType, targetType, element);
+        }
+
+        if (Map.class.isAssignableFrom(sourceType) && Map.class.isAssignableFrom(targetType)) {
+            return CollectionConverters.toMap(targetType,
+                resolveElementConverter(settings, converters, GenericTypes.typeArgument(sourceGenericType, 0),
+                    GenericTypes.typeArgument(targetGenericType, 0)),
+                resolveElementConverter(settings, converters, GenericTypes.typeArgument(sourceGenericType, 1),
+                    GenericTypes.typeArgument(targetGenericType, 1)));
+        }
+
+        if (sourceType.equals(Optional.class) && targetType.equals(Optional.class)) {
+            return CollectionConverters.toOptional(resolveElementConverter(settings, converters,
+                GenericTypes.typeArgument(sourceGenericType, 0), GenericTypes.typeArgument(targetGenericType, 0)));
+        }
+
+        // 8. Objetos complexos, delegados ao mapper em cache do par aninhado
+        if (isComplexType(sourceType) && isComplexType(targetType)) {
+            return nestedConverter(sourceType, targetType);
+        }
+
+        // 9. Fallback - atribuição direta
+        return ValueConverter.IDENTITY;
+    }
+
+    /**
+     * Escolhe o conversor dos elementos de uma coleção
+     */
+    private static ValueConverter resolveElementConverter(MapperSettings settings, ConverterRegistry.Table converters,
+                                                   Type sourceElementType, Type targetElementType) {
+        Class<?> sourceType = GenericTypes.rawType(sourceElementType);
+        Class<?> targetType = GenericTypes.rawType(targetElementType);
+
+        // Tipo de elemento desconhecido (coleção bruta): copia a referência
+        if (sourceType.equals(Object.class) || targetType.equals(Object.class)) {
+            return ValueConverter.IDENTITY;
         }
+
+        return resolveTypeConverter(settings, converters, sourceElementType, targetElementType);
+    }
+
+    /**
+     * Resolve o mapper em cache do par aninhado. O plano do mapper aninhado só
+     * é construído no primeiro uso, o que permite tipos auto-referenciados.
+     */
+    private static ValueConverter nestedConverter(Class<?> sourceType, Class<?> targetType) {
+        @SuppressWarnings("unchecked")
+        AutoMapper<Object, Object> nested = (AutoMapper<Object, Object>) create(sourceType, targetType);
+        return nested::mapNested;
     }
 
-    private boolean isSimpleType(Class<?> type) {
+    /**
+     * Mapeia um objeto aninhado dentro do contexto da chamada de nível superior.
+     * No modo de grafo usa sempre o plano por campos: o mapper gerado não
+     * consulta nem registra as instâncias do contexto.
+     */
+    private TTarget mapNested(TSource source, MappingContext context) {
+        if (context == null) {
+            return map(source);
+        }
+        return mapWith(propertyPlan(), source, context);
+    }
+
+    private static boolean isSimpleType(Class<?> type) {
         return type.isPrimitive() ||
                type.equals(String.class) ||
                type.equals(Integer.class) ||
@@ -309,20 +1019,25 @@ public class AutoMapper<TSource, TTarget> {
                type.equals(Double.class) ||
                type.equals(Float.class) ||
                type.equals(Boolean.class) ||
-               type.equals(LocalDate.class) ||
+               TemporalConverters.isTemporal(type) ||
                Number.class.isAssignableFrom(type);
     }
 
-    private boolean isCollectionType(Class<?> type) {
-        return Collection.class.isAssignableFrom(type);
+    private static boolean isCollectionType(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || type.isArray();
     }
 
-    private boolean isConvertiblePrimitive(Class<?> sourceType, Class<?> targetType) {
+    private static boolean isComplexType(Class<?> type) {
+        return !isSimpleType(type) && !isCollectionType(type) && 
+               !Map.class.isAssignableFrom(type) && !type.equals(Optional.class);
+    }
+
+    private static boolean isConvertiblePrimitive(Class<?> sourceType, Class<?> targetType) {
         return (Number.class.isAssignableFrom(sourceType) || sourceType.isPrimitive()) &&
                (Number.class.isAssignableFrom(targetType) || targetType.isPrimitive());
     }
 
-    private Object convertPrimitive(Object value, Class<?> targetType) {
+    private static Object convertPrimitive(Object value, Class<?> targetType) {
         if (value instanceof Number) {
             Number num = (Number) value;
             if (targetType.equals(int.class) || targetType.equals(Integer.class)) {
@@ -338,12 +1053,19 @@ public class AutoMapper<TSource, TTarget> {
         return value;
     }
 
-    private Field[] getAllFields(Class<?> clazz) {
-        List<Field> fields = new ArrayList<>();
-        while (clazz != null) {
-            fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
-            clazz = clazz.getSuperclass();
+    /**
+     * Resultado da validação estrutural e a configuração e os conversores que
+     * o produziram
+     */
+    private static final class Validation {
+        private final MapperSettings settings;
+        private final ConverterRegistry.Table converters;
+        private final ValidationResult result;
+
+        private Validation(MapperSettings settings, ConverterRegistry.Table converters, ValidationResult result) {
+            this.settings = settings;
+            this.converters = converters;
+            this.result = result;
         }
-        return fields.toArray(new Field[0]);
     }
 }
@@ -1,5 +1,8 @@
 package com.automapper.core;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Interface para mapeamento bidirecional
  */
@@ -26,6 +29,20 @@ public class BidirectionalMapper<TFirst, TSecond> {
         return reverseMapper.map(source);
     }
     
+    /**
+     * Mapeia uma coleção do primeiro tipo para o segundo
+     */
+    public List<TSecond> mapForwardAll(Collection<? extends TFirst> sources) {
+        return forwardMapper.mapAll(sources);
+    }
+    
+    /**
+     * Mapeia uma coleção do segundo tipo para o primeiro
+     */
+    public List<TFirst> mapReverseAll(Collection<? extends TSecond> sources) {
+        return reverseMapper.mapAll(sources);
+    }
+    
     /**
      * Configura o mapeamento direto
      */
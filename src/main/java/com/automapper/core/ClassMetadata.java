@@ -0,0 +1,185 @@
+package com.automapper.core;
+
+import com.automapper.annotations.Ignore;
+import com.automapper.annotations.MapTo;
+import com.automapper.annotations.UseConverter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metadados de reflection de uma classe, lidos uma única vez e compartilhados
+ * pelos mappers, pelo validador e pelos profiles: campos (incluindo os
+ * herdados), anotações de mapeamento, tipos de elementos genéricos, acessores
+ * e construtor padrão. O cache fica associado à própria classe e é liberado
+ * junto com o seu class loader.
+ */
+public final class ClassMetadata {
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<Field> fields;
+    private final Map<String, Field> fieldsByName;
+    private final Map<Field, Type> elementTypes;
+    private final Map<String, String> renames;
+    private final Set<String> ignoredFields;
+    private final Map<String, Class<?>> converterTypes;
+    private final boolean defaultConstructor;
+    private final Map<Field, FieldAccessor> accessors = new ConcurrentHashMap<>();
+    private final Map<Field, FieldAccessor> generatedAccessors = new ConcurrentHashMap<>();
+    private volatile Instantiator generatedInstantiator;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+
+        List<Field> allFields = new ArrayList<>();
+        Map<String, Field> byName = new HashMap<>();
+        Map<Field, Type> elements = new HashMap<>();
+        Map<String, String> mapTo = new HashMap<>();
+        Set<String> ignored = new HashSet<>();
+        Map<String, Class<?>> converters = new HashMap<>();
+
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                allFields.add(field);
+                // Campos da subclasse ocultam os homônimos das superclasses
+                byName.putIfAbsent(field.getName(), field);
+
+                Class<?> fieldType = field.getType();
+                if (fieldType.isArray() || Collection.class.isAssignableFrom(fieldType)) {
+                    elements.put(field, GenericTypes.elementType(field.getGenericType()));
+                }
+                if (field.isAnnotationPresent(Ignore.class)) {
+                    ignored.add(field.getName());
+                }
+                if (field.isAnnotationPresent(MapTo.class)) {
+                    mapTo.put(field.getName(), field.getAnnotation(MapTo.class).value());
+                }
+                if (field.isAnnotationPresent(UseConverter.class)) {
+                    converters.put(field.getName(), field.getAnnotation(UseConverter.class).value());
+                }
+            }
+        }
+
+        this.fields = Collections.unmodifiableList(allFields);
+        this.fieldsByName = byName;
+        this.elementTypes = elements;
+        this.renames = Collections.unmodifiableMap(mapTo);
+        this.ignoredFields = Collections.unmodifiableSet(ignored);
+        this.converterTypes = Collections.unmodifiableMap(converters);
+        this.defaultConstructor = hasDefaultConstructor(type);
+    }
+
+    /**
+     * Obtém os metadados em cache da classe
+     */
+    public static ClassMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Campos declarados na classe e nas superclasses, da subclasse para a
+     * superclasse
+     */
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * Obtém o campo pelo nome, ou null; campos da subclasse têm precedência
+     */
+    public Field getField(String name) {
+        return fieldsByName.get(name);
+    }
+
+    /**
+     * Tipo dos elementos de um campo array ou coleção, ou null para os demais
+     */
+    public Type getElementType(Field field) {
+        return elementTypes.get(field);
+    }
+
+    /**
+     * Renomeações declaradas com @MapTo (campo -> nome de destino)
+     */
+    public Map<String, String> getRenames() {
+        return renames;
+    }
+
+    /**
+     * Campos marcados com @Ignore
+     */
+    public Set<String> getIgnoredFields() {
+        return ignoredFields;
+    }
+
+    /**
+     * Conversores declarados com @UseConverter (campo -> classe do conversor)
+     */
+    public Map<String, Class<?>> getConverterTypes() {
+        return converterTypes;
+    }
+
+    public boolean hasDefaultConstructor() {
+        return defaultConstructor;
+    }
+
+    /**
+     * Acessor padrão do campo, criado no primeiro uso
+     */
+    FieldAccessor accessor(Field field) {
+        return accessors.computeIfAbsent(field, FieldAccessor::of);
+    }
+
+    /**
+     * Acessor gerado a partir do getter e setter do campo, criado no primeiro uso
+     */
+    FieldAccessor generatedAccessor(Field field) {
+        return generatedAccessors.computeIfAbsent(field, GeneratedAccessors::forField);
+    }
+
+    /**
+     * Instanciador do construtor padrão
+     */
+    Instantiator instantiator() {
+        return Instantiator.of(type);
+    }
+
+    /**
+     * Fábrica gerada para o construtor padrão, criada no primeiro uso
+     */
+    Instantiator generatedInstantiator() {
+        Instantiator current = generatedInstantiator;
+        if (current == null) {
+            current = GeneratedAccessors.instantiator(type);
+            generatedInstantiator = current;
+        }
+        return current;
+    }
+
+    private static boolean hasDefaultConstructor(Class<?> type) {
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.automapper.core;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Conversores de coleções, mapas, arrays e Optional que convertem cada
+ * elemento com um conversor já resolvido. O tipo concreto de destino é
+ * escolhido uma única vez, na construção do plano.
+ */
+final class CollectionConverters {
+
+    private CollectionConverters() {
+    }
+
+    /**
+     * Converte uma coleção ou array de origem em uma coleção do tipo de destino
+     */
+    static ValueConverter toCollection(Class<?> sourceType, Class<?> targetType, ValueConverter element) {
+        IntFunction<Collection<Object>> factory = collectionFactory(targetType);
+
+        if (sourceType.isArray()) {
+            return (value, context) -> {
+                int length = Array.getLength(value);
+                Collection<Object> result = factory.apply(length);
+                for (int i = 0; i < length; i++) {
+                    result.add(convertElement(element, Array.get(value, i), context));
+                }
+                return result;
+            };
+        }
+
+        if (element == ValueConverter.IDENTITY) {
+            return (value, context) -> {
+                Collection<?> source = (Collection<?>) value;
+                Collection<Object> result = factory.apply(source.size());
+                result.addAll(source);
+                return result;
+            };
+        }
+
+        return (value, context) -> {
+            Collection<?> source = (Collection<?>) value;
+            Collection<Object> result = factory.apply(source.size());
+            for (Object item : source) {
+                result.add(convertElement(element, item, context));
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Converte uma coleção ou array de origem em um array do tipo de destino
+     */
+    static ValueConverter toArray(Class<?> sourceType, Class<?> targetType, ValueConverter element) {
+        Class<?> componentType = targetType.getComponentType();
+
+        if (sourceType.isArray()) {
+            if (element == ValueConverter.IDENTITY && sourceType.getComponentType() == componentType) {
+                return (value, context) -> {
+                    int length = Array.getLength(value);
+                    Object result = Array.newInstance(componentType, length);
+                    System.arraycopy(value, 0, result, 0, length);
+                    return result;
+                };
+            }
+            return (value, context) -> {
+                int length = Array.getLength(value);
+                Object result = Array.newInstance(componentType, length);
+                for (int i = 0; i < length; i++) {
+                    Array.set(result, i, convertElement(element, Array.get(value, i), context));
+                }
+                return result;
+            };
+        }
+
+        return (value, context) -> {
+            Collection<?> source = (Collection<?>) value;
+            Object result = Array.newInstance(componentType, source.size());
+            int index = 0;
+            for (Object item : source) {
+                Array.set(result, index++, convertElement(element, item, context));
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Converte um mapa de origem em um mapa do tipo de destino, convertendo
+     * chaves e valores
+     */
+    static ValueConverter toMap(Class<?> targetType, ValueConverter key, ValueConverter element) {
+        IntFunction<Map<Object, Object>> factory = mapFactory(targetType);
+
+        if (key == ValueConverter.IDENTITY && element == ValueConverter.IDENTITY) {
+            return (value, context) -> {
+                Map<?, ?> source = (Map<?, ?>) value;
+                Map<Object, Object> result = factory.apply(source.size());
+                result.putAll(source);
+                return result;
+            };
+        }
+
+        return (value, context) -> {
+            Map<?, ?> source = (Map<?, ?>) value;
+            Map<Object, Object> result = factory.apply(source.size());
+            for (Map.Entry<?, ?> entry : source.entrySet()) {
+                result.put(convertElement(key, entry.getKey(), context),
+                    convertElement(element, entry.getValue(), context));
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Converte o conteúdo de um Optional; Optional é imutável, então é
+     * reutilizado quando o conteúdo não precisa de conversão
+     */
+    static ValueConverter toOptional(ValueConverter element) {
+        if (element == ValueConverter.IDENTITY) {
+            return ValueConverter.IDENTITY;
+        }
+        return (value, context) -> ((Optional<?>) value).map(item -> element.convert(item, context));
+    }
+
+    private static Object convertElement(ValueConverter element, Object item, MappingContext context) {
+        return item == null ? null : element.convert(item, context);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IntFunction<Collection<Object>> collectionFactory(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            if (type.isAssignableFrom(ArrayList.class)) {
+                return ArrayList::new;
+            }
+            if (type.isAssignableFrom(HashSet.class)) {
+                return size -> new HashSet<>(hashCapacity(size));
+            }
+            if (type.isAssignableFrom(TreeSet.class)) {
+                return size -> new TreeSet<>();
+            }
+            if (type.isAssignableFrom(ArrayDeque.class)) {
+                return ArrayDeque::new;
+            }
+            return ArrayList::new; // fallback
+        }
+
+        if (type == ArrayList.class) {
+            return ArrayList::new;
+        }
+        if (type == HashSet.class) {
+            return size -> new HashSet<>(hashCapacity(size));
+        }
+        if (type == LinkedHashSet.class) {
+            return size -> new LinkedHashSet<>(hashCapacity(size));
+        }
+        if (type == ArrayDeque.class) {
+            return ArrayDeque::new;
+        }
+        Instantiator instantiator = Instantiator.of(type);
+        return size -> (Collection<Object>) instantiator.newInstance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IntFunction<Map<Object, Object>> mapFactory(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            if (type.isAssignableFrom(HashMap.class)) {
+                return size -> new HashMap<>(hashCapacity(size));
+            }
+            if (type.isAssignableFrom(TreeMap.class)) {
+                return size -> new TreeMap<>();
+            }
+            if (type.isAssignableFrom(ConcurrentHashMap.class)) {
+                return ConcurrentHashMap::new;
+            }
+            return size -> new HashMap<>(hashCapacity(size)); // fallback
+        }
+
+        if (type == HashMap.class) {
+            return size -> new HashMap<>(hashCapacity(size));
+        }
+        if (type == LinkedHashMap.class) {
+            return size -> new LinkedHashMap<>(hashCapacity(size));
+        }
+        Instantiator instantiator = Instantiator.of(type);
+        return size -> (Map<Object, Object>) instantiator.newInstance();
+    }
+
+    private static int hashCapacity(int size) {
+        return Math.max((int) (size / 0.75f) + 1, 16);
+    }
+}
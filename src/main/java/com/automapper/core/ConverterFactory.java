@@ -0,0 +1,81 @@
+package com.automapper.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Fornece as instâncias dos conversores declarados em @UseConverter. Cada
+ * classe de conversor é instanciada uma única vez e compartilhada por todos os
+ * mappers. As instâncias podem vir de uma fábrica registrada por classe ou de
+ * um provedor global (por exemplo, um container de injeção de dependências);
+ * sem eles, usa o construtor padrão.
+ */
+public final class ConverterFactory {
+    private static final Map<Class<?>, Supplier<?>> suppliers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+    private static volatile Function<Class<?>, Object> provider;
+
+    private ConverterFactory() {
+    }
+
+    /**
+     * Registra a fábrica de um conversor; ela é chamada uma única vez, na
+     * primeira construção de plano que usar a classe. Planos já construídos
+     * mantêm a instância anterior.
+     */
+    public static <C> void register(Class<C> converterType, Supplier<? extends C> supplier) {
+        suppliers.put(converterType, supplier);
+        instances.remove(converterType);
+    }
+
+    /**
+     * Define o provedor usado para as classes sem fábrica registrada. Se o
+     * provedor retornar null, o construtor padrão é usado.
+     */
+    public static void useProvider(Function<Class<?>, Object> converterProvider) {
+        provider = converterProvider;
+        instances.clear();
+    }
+
+    /**
+     * Descarta as fábricas, o provedor e as instâncias em cache
+     */
+    public static void clear() {
+        suppliers.clear();
+        provider = null;
+        instances.clear();
+    }
+
+    /**
+     * Obtém a instância compartilhada do conversor
+     */
+    public static <C> C get(Class<C> converterType) {
+        return converterType.cast(instances.computeIfAbsent(converterType, ConverterFactory::create));
+    }
+
+    private static Object create(Class<?> converterType) {
+        Supplier<?> supplier = suppliers.get(converterType);
+        Object instance = supplier != null ? supplier.get() : null;
+
+        Function<Class<?>, Object> currentProvider = provider;
+        if (instance == null && currentProvider != null) {
+            instance = currentProvider.apply(converterType);
+        }
+
+        if (instance == null) {
+            try {
+                instance = converterType.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Error creating converter " + converterType.getName(), e);
+            }
+        }
+
+        if (!converterType.isInstance(instance)) {
+            throw new IllegalStateException("Factory for " + converterType.getName() +
+                                            " returned an instance of " + instance.getClass().getName());
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,170 @@
+package com.automapper.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Registro global de conversores indexado pelo par de tipos (origem, destino).
+ * É consultado apenas na construção dos planos: o conversor escolhido para
+ * cada campo fica gravado no plano e nada é despachado por valor.
+ */
+public final class ConverterRegistry {
+    private static volatile Table table = new Table(Collections.emptyMap());
+
+    private ConverterRegistry() {
+    }
+
+    /**
+     * Registra um conversor para o par de tipos, substituindo o anterior
+     */
+    public static synchronized <TSource, TTarget> void register(
+            Class<TSource> sourceType,
+            Class<TTarget> targetType,
+            Function<? super TSource, ? extends TTarget> converter) {
+
+        if (sourceType == null || targetType == null || converter == null) {
+            throw new IllegalArgumentException("Source type, target type and converter must not be null");
+        }
+
+        @SuppressWarnings("unchecked")
+        Function<Object, Object> objectConverter = (Function<Object, Object>) converter;
+        Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters = table.copy();
+        converters.computeIfAbsent(GenericTypes.boxed(sourceType), key -> new LinkedHashMap<>())
+            .put(GenericTypes.boxed(targetType), objectConverter);
+        table = new Table(converters);
+    }
+
+    /**
+     * Remove o conversor do par de tipos, apenas se ainda for o informado
+     */
+    public static synchronized void unregister(Class<?> sourceType, Class<?> targetType, Function<?, ?> converter) {
+        Map<Class<?>, Function<Object, Object>> byTarget = table.converters.get(GenericTypes.boxed(sourceType));
+        if (byTarget == null || byTarget.get(GenericTypes.boxed(targetType)) != converter) {
+            return;
+        }
+
+        Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters = table.copy();
+        Map<Class<?>, Function<Object, Object>> copy = converters.get(GenericTypes.boxed(sourceType));
+        copy.remove(GenericTypes.boxed(targetType));
+        if (copy.isEmpty()) {
+            converters.remove(GenericTypes.boxed(sourceType));
+        }
+        table = new Table(converters);
+    }
+
+    /**
+     * Remove todos os conversores registrados
+     */
+    public static synchronized void clear() {
+        table = new Table(Collections.emptyMap());
+    }
+
+    /**
+     * Verifica se existe um conversor aplicável ao par de tipos
+     */
+    public static boolean hasConverter(Class<?> sourceType, Class<?> targetType) {
+        return table.find(sourceType, targetType) != null;
+    }
+
+    /**
+     * Identifica o estado atual do registro: o valor muda a cada alteração,
+     * então resultados que dependem dos conversores registrados podem ser
+     * guardados junto com ele e descartados quando ele mudar
+     */
+    public static Object version() {
+        return table;
+    }
+
+    /**
+     * Estado atual do registro; os planos guardam a instância usada na sua
+     * construção para detectar alterações posteriores
+     */
+    static Table table() {
+        return table;
+    }
+
+    /**
+     * Instantâneo imutável do registro
+     */
+    static final class Table {
+        private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters;
+
+        private Table(Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters) {
+            this.converters = converters;
+        }
+
+        boolean isEmpty() {
+            return converters.isEmpty();
+        }
+
+        /**
+         * Procura o conversor mais específico: percorre a hierarquia da origem
+         * (classe, superclasses, interfaces e por último Object) e, para cada
+         * tipo, aceita o destino exato ou um destino registrado atribuível ao
+         * campo alvo
+         */
+        Function<Object, Object> find(Class<?> sourceType, Class<?> targetType) {
+            if (converters.isEmpty()) {
+                return null;
+            }
+
+            Class<?> target = GenericTypes.boxed(targetType);
+            for (Class<?> candidate : hierarchy(GenericTypes.boxed(sourceType))) {
+                Map<Class<?>, Function<Object, Object>> byTarget = converters.get(candidate);
+                if (byTarget == null) {
+                    continue;
+                }
+
+                Function<Object, Object> exact = byTarget.get(target);
+                if (exact != null) {
+                    return exact;
+                }
+
+                for (Map.Entry<Class<?>, Function<Object, Object>> entry : byTarget.entrySet()) {
+                    if (target.isAssignableFrom(entry.getKey())) {
+                        return entry.getValue();
+                    }
+                }
+            }
+            return null;
+        }
+
+        private Map<Class<?>, Map<Class<?>, Function<Object, Object>>> copy() {
+            Map<Class<?>, Map<Class<?>, Function<Object, Object>>> copy = new LinkedHashMap<>();
+            converters.forEach((source, byTarget) -> copy.put(source, new LinkedHashMap<>(byTarget)));
+            return copy;
+        }
+
+        private static List<Class<?>> hierarchy(Class<?> type) {
+            List<Class<?>> classes = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; 
+                    current = current.getSuperclass()) {
+                classes.add(current);
+            }
+
+            Set<Class<?>> interfaces = new LinkedHashSet<>();
+            Deque<Class<?>> pending = new ArrayDeque<>(classes);
+            while (!pending.isEmpty()) {
+                for (Class<?> implemented : pending.poll().getInterfaces()) {
+                    if (interfaces.add(implemented)) {
+                        pending.add(implemented);
+                    }
+                }
+            }
+
+            // Object é o tipo menos específico e vem depois de todas as interfaces
+            List<Class<?>> result = new ArrayList<>(classes);
+            result.addAll(interfaces);
+            result.add(Object.class);
+            return result;
+        }
+    }
+}
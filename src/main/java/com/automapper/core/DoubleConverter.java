@@ -0,0 +1,14 @@
+package com.automapper.core;
+
+/**
+ * Conversor de double para double, chamado sem boxing em campos primitivos
+ */
+@FunctionalInterface
+public interface DoubleConverter extends TypeConverter<Double, Double> {
+    double convert(double value);
+
+    @Override
+    default Double apply(Double value) {
+        return convert(value);
+    }
+}
@@ -0,0 +1,15 @@
+package com.automapper.core;
+
+/**
+ * Conversor de double para objeto (por exemplo, valor para String formatada),
+ * que lê o campo primitivo sem boxing
+ */
+@FunctionalInterface
+public interface DoubleToObjectConverter<R> extends TypeConverter<Double, R> {
+    R fromDouble(double value);
+
+    @Override
+    default R apply(Double value) {
+        return fromDouble(value);
+    }
+}
@@ -0,0 +1,65 @@
+package com.automapper.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Acesso de leitura e escrita a um campo, com caminhos tipados para primitivos
+ */
+interface FieldAccessor {
+
+    /**
+     * Cria o acessor mais rápido disponível para o campo, usando reflection
+     * quando o sistema de módulos nega o acesso via VarHandle
+     */
+    static FieldAccessor of(Field field) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+                    field.getDeclaringClass(), MethodHandles.lookup());
+                return new VarHandleFieldAccessor(lookup.unreflectVarHandle(field));
+            } catch (IllegalAccessException | RuntimeException ignored) {
+                // Sem acesso privado ao módulo: usa reflection
+            }
+        }
+        return new ReflectiveFieldAccessor(field);
+    }
+
+    Object get(Object instance);
+
+    void set(Object instance, Object value);
+
+    boolean getBoolean(Object instance);
+
+    void setBoolean(Object instance, boolean value);
+
+    byte getByte(Object instance);
+
+    void setByte(Object instance, byte value);
+
+    char getChar(Object instance);
+
+    void setChar(Object instance, char value);
+
+    short getShort(Object instance);
+
+    void setShort(Object instance, short value);
+
+    int getInt(Object instance);
+
+    void setInt(Object instance, int value);
+
+    long getLong(Object instance);
+
+    void setLong(Object instance, long value);
+
+    float getFloat(Object instance);
+
+    void setFloat(Object instance, float value);
+
+    double getDouble(Object instance);
+
+    void setDouble(Object instance, double value);
+}
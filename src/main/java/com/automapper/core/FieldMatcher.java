@@ -0,0 +1,165 @@
+package com.automapper.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Associação entre os campos da fonte e do alvo, resolvida uma única vez na
+ * construção do plano. Renomeações explícitas e nomes idênticos têm
+ * precedência; a convenção de nomes e o achatamento só preenchem os campos que
+ * continuam sem par, a partir de índices por chave normalizada.
+ */
+final class FieldMatcher {
+    /**
+     * Profundidade máxima dos caminhos achatados (endereco.cidade.nome)
+     */
+    private static final int MAX_FLATTEN_DEPTH = 3;
+
+    private final MapperSettings settings;
+    private final ClassMetadata source;
+    private final ClassMetadata target;
+    private final Predicate<Class<?>> nestedType;
+
+    FieldMatcher(MapperSettings settings, ClassMetadata source, ClassMetadata target,
+                 Predicate<Class<?>> nestedType) {
+        this.settings = settings;
+        this.source = source;
+        this.target = target;
+        this.nestedType = nestedType;
+    }
+
+    /**
+     * Associa cada campo da fonte ao campo alvo, na ordem dos campos da fonte
+     */
+    Map<Field, Field> matchFields() {
+        Map<Field, Field> matches = new HashMap<>();
+        Set<Field> matchedTargets = new HashSet<>();
+        for (Field sourceField : source.getFields()) {
+            if (isIgnored(sourceField) || Modifier.isStatic(sourceField.getModifiers())) {
+                continue;
+            }
+
+            String targetFieldName = settings.getCustomMappings()
+                .getOrDefault(sourceField.getName(), sourceField.getName());
+            Field targetField = target.getField(targetFieldName);
+            if (targetField != null && !Modifier.isStatic(targetField.getModifiers())) {
+                matches.put(sourceField, targetField);
+                matchedTargets.add(targetField);
+            }
+        }
+
+        NamingConvention convention = settings.getNamingConvention();
+        if (convention != null) {
+            Map<String, Field> targetsByKey = new HashMap<>();
+            for (Field targetField : target.getFields()) {
+                if (!Modifier.isStatic(targetField.getModifiers()) && !matchedTargets.contains(targetField)) {
+                    targetsByKey.putIfAbsent(convention.normalize(targetField.getName()), targetField);
+                }
+            }
+
+            for (Field sourceField : source.getFields()) {
+                if (matches.containsKey(sourceField) || isIgnored(sourceField)
+                        || Modifier.isStatic(sourceField.getModifiers())) {
+                    continue;
+                }
+
+                Field targetField = targetsByKey.remove(convention.normalize(sourceField.getName()));
+                if (targetField != null) {
+                    matches.put(sourceField, targetField);
+                }
+            }
+        }
+
+        Map<Field, Field> ordered = new LinkedHashMap<>();
+        for (Field sourceField : source.getFields()) {
+            Field targetField = matches.get(sourceField);
+            if (targetField != null) {
+                ordered.put(sourceField, targetField);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Associa os campos alvo ainda sem par a caminhos aninhados da fonte cujo
+     * nome concatenado corresponda (endereco.cidade -> enderecoCidade)
+     */
+    Map<Field, Field[]> flattenFields(Collection<Field> matchedTargets) {
+        Map<String, Field[]> paths = new HashMap<>();
+        for (Field sourceField : source.getFields()) {
+            if (!isIgnored(sourceField) && !Modifier.isStatic(sourceField.getModifiers())
+                    && nestedType.test(sourceField.getType())) {
+                collectPaths(sourceField.getName(), new Field[] { sourceField }, paths);
+            }
+        }
+
+        Map<Field, Field[]> flattened = new LinkedHashMap<>();
+        if (paths.isEmpty()) {
+            return flattened;
+        }
+
+        Set<Field> matched = new HashSet<>(matchedTargets);
+        for (Field targetField : target.getFields()) {
+            if (Modifier.isStatic(targetField.getModifiers()) || matched.contains(targetField)) {
+                continue;
+            }
+
+            Field[] path = paths.get(key(targetField.getName()));
+            if (path != null) {
+                flattened.put(targetField, path);
+            }
+        }
+        return flattened;
+    }
+
+    private void collectPaths(String prefix, Field[] path, Map<String, Field[]> paths) {
+        Class<?> owner = path[path.length - 1].getType();
+        for (Field nested : ClassMetadata.of(owner).getFields()) {
+            if (Modifier.isStatic(nested.getModifiers())) {
+                continue;
+            }
+
+            String name = prefix + Character.toUpperCase(nested.getName().charAt(0)) + nested.getName().substring(1);
+            Field[] nestedPath = Arrays.copyOf(path, path.length + 1);
+            nestedPath[path.length] = nested;
+            paths.putIfAbsent(key(name), nestedPath);
+
+            if (nestedPath.length < MAX_FLATTEN_DEPTH && nestedType.test(nested.getType())
+                    && !containsType(path, nested.getType())) {
+                collectPaths(name, nestedPath, paths);
+            }
+        }
+    }
+
+    private String key(String name) {
+        NamingConvention convention = settings.getNamingConvention();
+        return convention != null ? convention.normalize(name) : name;
+    }
+
+    private boolean isIgnored(Field sourceField) {
+        return settings.getIgnoredFields().contains(sourceField.getName());
+    }
+
+    /**
+     * Evita percorrer de novo um tipo já presente no caminho (referências cíclicas)
+     */
+    private boolean containsType(Field[] path, Class<?> type) {
+        if (type == source.getType()) {
+            return true;
+        }
+        for (Field field : path) {
+            if (field.getType() == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
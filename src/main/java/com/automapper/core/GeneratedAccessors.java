@@ -0,0 +1,153 @@
+package com.automapper.core;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Gera em tempo de execução classes dedicadas de acesso a propriedades via
+ * LambdaMetafactory, com chamadas diretas aos getters, setters e construtores.
+ * A geração é por propriedade, não por par de tipos: o plano continua
+ * percorrendo as entradas e chamando os conversores como no acesso padrão.
+ * Um mapper em linha reta por par, com os conversores embutidos, é gerado em
+ * tempo de compilação pelo automapper-processor.
+ */
+final class GeneratedAccessors {
+
+    private GeneratedAccessors() {
+    }
+
+    /**
+     * Gera o acessor da propriedade a partir do getter e setter do campo,
+     * voltando silenciosamente ao acessor padrão se a geração falhar
+     */
+    static FieldAccessor forField(Field field) {
+        FieldAccessor fallback = FieldAccessor.of(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            return fallback;
+        }
+
+        try {
+            Class<?> owner = field.getDeclaringClass();
+            Method getter = findGetter(owner, field);
+            Method setter = findSetter(owner, field);
+            if (getter == null || setter == null) {
+                return fallback;
+            }
+
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            MethodHandle getterHandle = lookup.unreflect(getter);
+            MethodHandle setterHandle = lookup.unreflect(setter);
+            Class<?> type = field.getType();
+
+            Function<Object, Object> objectGetter = generate(lookup, Function.class, "apply",
+                MethodType.methodType(Object.class, Object.class), getterHandle,
+                MethodType.methodType(wrap(type), owner));
+            BiConsumer<Object, Object> objectSetter = generate(lookup, BiConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, Object.class), setterHandle,
+                MethodType.methodType(void.class, owner, wrap(type)));
+
+            ToIntFunction<Object> intGetter = null;
+            ObjIntConsumer<Object> intSetter = null;
+            ToLongFunction<Object> longGetter = null;
+            ObjLongConsumer<Object> longSetter = null;
+            ToDoubleFunction<Object> doubleGetter = null;
+            ObjDoubleConsumer<Object> doubleSetter = null;
+            if (type == int.class) {
+                intGetter = generate(lookup, ToIntFunction.class, "applyAsInt",
+                    MethodType.methodType(int.class, Object.class), getterHandle,
+                    MethodType.methodType(int.class, owner));
+                intSetter = generate(lookup, ObjIntConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, int.class), setterHandle,
+                    MethodType.methodType(void.class, owner, int.class));
+            } else if (type == long.class) {
+                longGetter = generate(lookup, ToLongFunction.class, "applyAsLong",
+                    MethodType.methodType(long.class, Object.class), getterHandle,
+                    MethodType.methodType(long.class, owner));
+                longSetter = generate(lookup, ObjLongConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, long.class), setterHandle,
+                    MethodType.methodType(void.class, owner, long.class));
+            } else if (type == double.class) {
+                doubleGetter = generate(lookup, ToDoubleFunction.class, "applyAsDouble",
+                    MethodType.methodType(double.class, Object.class), getterHandle,
+                    MethodType.methodType(double.class, owner));
+                doubleSetter = generate(lookup, ObjDoubleConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, double.class), setterHandle,
+                    MethodType.methodType(void.class, owner, double.class));
+            }
+            return new GeneratedFieldAccessor(fallback, objectGetter, objectSetter,
+                intGetter, intSetter, longGetter, longSetter, doubleGetter, doubleSetter);
+        } catch (Throwable e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Gera a fábrica do construtor padrão, voltando ao instanciador padrão
+     * se a geração falhar
+     */
+    static Instantiator instantiator(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+            Supplier<Object> factory = generate(lookup, Supplier.class, "get",
+                MethodType.methodType(Object.class), constructor, MethodType.methodType(type));
+            return Instantiator.fromFactory(factory);
+        } catch (Throwable e) {
+            return Instantiator.of(type);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T generate(MethodHandles.Lookup lookup, Class<?> functionalInterface, String methodName,
+                                  MethodType erasedType, MethodHandle implementation,
+                                  MethodType instantiatedType) throws Throwable {
+        CallSite site = LambdaMetafactory.metafactory(lookup, methodName,
+            MethodType.methodType(functionalInterface), erasedType, implementation, instantiatedType);
+        return (T) site.getTarget().invoke();
+    }
+
+    private static Method findGetter(Class<?> owner, Field field) {
+        String suffix = capitalize(field.getName());
+        Method getter = findMethod(owner, "get" + suffix);
+        if (getter == null && field.getType() == boolean.class) {
+            getter = findMethod(owner, "is" + suffix);
+        }
+        return getter != null && getter.getReturnType() == field.getType() ? getter : null;
+    }
+
+    private static Method findSetter(Class<?> owner, Field field) {
+        return findMethod(owner, "set" + capitalize(field.getName()), field.getType());
+    }
+
+    private static Method findMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = owner.getDeclaredMethod(name, parameterTypes);
+            return Modifier.isStatic(method.getModifiers()) ? null : method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
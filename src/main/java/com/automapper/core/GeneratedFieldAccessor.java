@@ -0,0 +1,143 @@
+package com.automapper.core;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Acessor que chama diretamente getters e setters gerados em tempo de execução
+ */
+final class GeneratedFieldAccessor implements FieldAccessor {
+    private final FieldAccessor fallback;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+    private final ToIntFunction<Object> intGetter;
+    private final ObjIntConsumer<Object> intSetter;
+    private final ToLongFunction<Object> longGetter;
+    private final ObjLongConsumer<Object> longSetter;
+    private final ToDoubleFunction<Object> doubleGetter;
+    private final ObjDoubleConsumer<Object> doubleSetter;
+
+    GeneratedFieldAccessor(FieldAccessor fallback,
+                           Function<Object, Object> getter, BiConsumer<Object, Object> setter,
+                           ToIntFunction<Object> intGetter, ObjIntConsumer<Object> intSetter,
+                           ToLongFunction<Object> longGetter, ObjLongConsumer<Object> longSetter,
+                           ToDoubleFunction<Object> doubleGetter, ObjDoubleConsumer<Object> doubleSetter) {
+        this.fallback = fallback;
+        this.getter = getter;
+        this.setter = setter;
+        this.intGetter = intGetter;
+        this.intSetter = intSetter;
+        this.longGetter = longGetter;
+        this.longSetter = longSetter;
+        this.doubleGetter = doubleGetter;
+        this.doubleSetter = doubleSetter;
+    }
+
+    @Override
+    public Object get(Object instance) {
+        return getter.apply(instance);
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+        setter.accept(instance, value);
+    }
+
+    @Override
+    public int getInt(Object instance) {
+        return intGetter != null ? intGetter.applyAsInt(instance) : fallback.getInt(instance);
+    }
+
+    @Override
+    public void setInt(Object instance, int value) {
+        if (intSetter != null) {
+            intSetter.accept(instance, value);
+        } else {
+            fallback.setInt(instance, value);
+        }
+    }
+
+    @Override
+    public long getLong(Object instance) {
+        return longGetter != null ? longGetter.applyAsLong(instance) : fallback.getLong(instance);
+    }
+
+    @Override
+    public void setLong(Object instance, long value) {
+        if (longSetter != null) {
+            longSetter.accept(instance, value);
+        } else {
+            fallback.setLong(instance, value);
+        }
+    }
+
+    @Override
+    public double getDouble(Object instance) {
+        return doubleGetter != null ? doubleGetter.applyAsDouble(instance) : fallback.getDouble(instance);
+    }
+
+    @Override
+    public void setDouble(Object instance, double value) {
+        if (doubleSetter != null) {
+            doubleSetter.accept(instance, value);
+        } else {
+            fallback.setDouble(instance, value);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object instance) {
+        return fallback.getBoolean(instance);
+    }
+
+    @Override
+    public void setBoolean(Object instance, boolean value) {
+        fallback.setBoolean(instance, value);
+    }
+
+    @Override
+    public byte getByte(Object instance) {
+        return fallback.getByte(instance);
+    }
+
+    @Override
+    public void setByte(Object instance, byte value) {
+        fallback.setByte(instance, value);
+    }
+
+    @Override
+    public char getChar(Object instance) {
+        return fallback.getChar(instance);
+    }
+
+    @Override
+    public void setChar(Object instance, char value) {
+        fallback.setChar(instance, value);
+    }
+
+    @Override
+    public short getShort(Object instance) {
+        return fallback.getShort(instance);
+    }
+
+    @Override
+    public void setShort(Object instance, short value) {
+        fallback.setShort(instance, value);
+    }
+
+    @Override
+    public float getFloat(Object instance) {
+        return fallback.getFloat(instance);
+    }
+
+    @Override
+    public void setFloat(Object instance, float value) {
+        fallback.setFloat(instance, value);
+    }
+}
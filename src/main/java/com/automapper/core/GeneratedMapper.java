@@ -0,0 +1,29 @@
+package com.automapper.core;
+
+/**
+ * Mapper gerado em tempo de compilação pelo processador de anotações,
+ * registrado via ServiceLoader e usado antes do mapeamento por reflection
+ */
+public interface GeneratedMapper<TSource, TTarget> {
+
+    /**
+     * Tipo de origem do mapeamento
+     */
+    Class<TSource> sourceType();
+
+    /**
+     * Tipo de destino do mapeamento
+     */
+    Class<TTarget> targetType();
+
+    /**
+     * Mapeia uma instância não nula da origem para uma nova instância do destino
+     */
+    TTarget map(TSource source);
+
+    /**
+     * Copia as propriedades de uma instância não nula da origem para uma
+     * instância existente do destino
+     */
+    void map(TSource source, TTarget target);
+}
@@ -0,0 +1,40 @@
+package com.automapper.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Localiza os mappers gerados em tempo de compilação registrados via ServiceLoader
+ */
+final class GeneratedMappers {
+    private static final ClassValue<Map<Class<?>, GeneratedMapper<?, ?>>> BY_SOURCE =
+        new ClassValue<Map<Class<?>, GeneratedMapper<?, ?>>>() {
+            @Override
+            protected Map<Class<?>, GeneratedMapper<?, ?>> computeValue(Class<?> sourceClass) {
+                return load(sourceClass);
+            }
+        };
+
+    private GeneratedMappers() {
+    }
+
+    /**
+     * Obtém o mapper gerado para o par de tipos, ou null se não houver
+     */
+    @SuppressWarnings("unchecked")
+    static <S, T> GeneratedMapper<S, T> find(Class<S> sourceClass, Class<T> targetClass) {
+        return (GeneratedMapper<S, T>) BY_SOURCE.get(sourceClass).get(targetClass);
+    }
+
+    private static Map<Class<?>, GeneratedMapper<?, ?>> load(Class<?> sourceClass) {
+        Map<Class<?>, GeneratedMapper<?, ?>> mappers = new HashMap<>();
+        for (GeneratedMapper<?, ?> mapper : ServiceLoader.load(GeneratedMapper.class, sourceClass.getClassLoader())) {
+            if (mapper.sourceType() == sourceClass) {
+                mappers.putIfAbsent(mapper.targetType(), mapper);
+            }
+        }
+        return mappers.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(mappers);
+    }
+}
@@ -0,0 +1,112 @@
+package com.automapper.core;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+
+/**
+ * Utilitários para resolver classes e tipos de elementos a partir de tipos genéricos
+ */
+final class GenericTypes {
+
+    private GenericTypes() {
+    }
+
+    /**
+     * Obtém a classe bruta de um tipo genérico
+     */
+    static Class<?> rawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return rawType(((ParameterizedType) type).getRawType());
+        }
+        if (type instanceof GenericArrayType) {
+            Class<?> component = rawType(((GenericArrayType) type).getGenericComponentType());
+            return java.lang.reflect.Array.newInstance(component, 0).getClass();
+        }
+        if (type instanceof WildcardType) {
+            return rawType(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return bounds.length > 0 ? rawType(bounds[0]) : Object.class;
+        }
+        return Object.class;
+    }
+
+    /**
+     * Obtém o argumento de tipo na posição informada, resolvendo curingas
+     * e variáveis pelo seu limite superior; tipos brutos resultam em Object
+     */
+    static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                return resolve(arguments[index]);
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * Obtém o tipo dos elementos de um array ou coleção
+     */
+    static Type elementType(Type type) {
+        if (type instanceof GenericArrayType) {
+            return resolve(((GenericArrayType) type).getGenericComponentType());
+        }
+        if (type instanceof Class && ((Class<?>) type).isArray()) {
+            return ((Class<?>) type).getComponentType();
+        }
+        return typeArgument(type, 0);
+    }
+
+    /**
+     * Obtém o argumento de tipo com que a classe (ou uma superclasse)
+     * implementa a interface genérica; Object quando não declarado
+     */
+    static Class<?> interfaceArgument(Class<?> type, Class<?> genericInterface, int index) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Type implemented : current.getGenericInterfaces()) {
+                if (rawType(implemented) == genericInterface) {
+                    return rawType(typeArgument(implemented, index));
+                }
+            }
+            for (Class<?> implemented : current.getInterfaces()) {
+                if (implemented != genericInterface && genericInterface.isAssignableFrom(implemented)) {
+                    return interfaceArgument(implemented, genericInterface, index);
+                }
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * Obtém o wrapper de um tipo primitivo, ou o próprio tipo
+     */
+    static Class<?> boxed(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == double.class) return Double.class;
+        if (type == float.class) return Float.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == char.class) return Character.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        return Void.class;
+    }
+
+    private static Type resolve(Type type) {
+        if (type instanceof WildcardType || type instanceof TypeVariable) {
+            return rawType(type);
+        }
+        return type;
+    }
+}
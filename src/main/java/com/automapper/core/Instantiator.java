@@ -0,0 +1,83 @@
+package com.automapper.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+
+/**
+ * Construtor padrão resolvido uma única vez em um MethodHandle
+ */
+abstract class Instantiator {
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+    private static final ClassValue<Instantiator> INSTANTIATORS = new ClassValue<Instantiator>() {
+        @Override
+        protected Instantiator computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * Obtém o instanciador em cache para a classe
+     */
+    static Instantiator of(Class<?> type) {
+        return INSTANTIATORS.get(type);
+    }
+
+    /**
+     * Cria um instanciador a partir de uma fábrica gerada
+     */
+    static Instantiator fromFactory(Supplier<Object> factory) {
+        return new Instantiator() {
+            @Override
+            Object newInstance() {
+                return factory.get();
+            }
+        };
+    }
+
+    /**
+     * Resolve o construtor sem argumentos, usando reflection quando o
+     * sistema de módulos nega o acesso privado
+     */
+    private static Instantiator create(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            MethodHandle handle;
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                handle = lookup.unreflectConstructor(constructor);
+            } catch (IllegalAccessException | RuntimeException e) {
+                constructor.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectConstructor(constructor);
+            }
+            return new HandleInstantiator(type, handle.asType(FACTORY_TYPE));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException("Class " + type.getName() + " must have a default constructor", e);
+        }
+    }
+
+    abstract Object newInstance();
+
+    private static final class HandleInstantiator extends Instantiator {
+        private final Class<?> type;
+        private final MethodHandle constructor;
+
+        HandleInstantiator(Class<?> type, MethodHandle constructor) {
+            this.type = type;
+            this.constructor = constructor;
+        }
+
+        @Override
+        Object newInstance() {
+            try {
+                return constructor.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException("Error creating instance of " + type.getName(), e);
+            }
+        }
+    }
+}
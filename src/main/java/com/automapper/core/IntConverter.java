@@ -0,0 +1,14 @@
+package com.automapper.core;
+
+/**
+ * Conversor de int para int, chamado sem boxing em campos primitivos
+ */
+@FunctionalInterface
+public interface IntConverter extends TypeConverter<Integer, Integer> {
+    int convert(int value);
+
+    @Override
+    default Integer apply(Integer value) {
+        return convert(value);
+    }
+}
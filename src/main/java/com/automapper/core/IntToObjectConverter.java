@@ -0,0 +1,14 @@
+package com.automapper.core;
+
+/**
+ * Conversor de int para objeto, que lê o campo primitivo sem boxing
+ */
+@FunctionalInterface
+public interface IntToObjectConverter<R> extends TypeConverter<Integer, R> {
+    R fromInt(int value);
+
+    @Override
+    default R apply(Integer value) {
+        return fromInt(value);
+    }
+}
@@ -0,0 +1,14 @@
+package com.automapper.core;
+
+/**
+ * Conversor de long para long, chamado sem boxing em campos primitivos
+ */
+@FunctionalInterface
+public interface LongConverter extends TypeConverter<Long, Long> {
+    long convert(long value);
+
+    @Override
+    default Long apply(Long value) {
+        return convert(value);
+    }
+}
@@ -0,0 +1,15 @@
+package com.automapper.core;
+
+/**
+ * Conversor de long para objeto (por exemplo, epoch para Instant), que lê o
+ * campo primitivo sem boxing
+ */
+@FunctionalInterface
+public interface LongToObjectConverter<R> extends TypeConverter<Long, R> {
+    R fromLong(long value);
+
+    @Override
+    default R apply(Long value) {
+        return fromLong(value);
+    }
+}
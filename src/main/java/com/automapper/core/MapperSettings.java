@@ -0,0 +1,270 @@
+package com.automapper.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Configuração imutável de um AutoMapper. Cada alteração gera uma nova cópia,
+ * que substitui a anterior de forma atômica; uma instância nunca é modificada
+ * depois de publicada.
+ */
+final class MapperSettings {
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
+    private final Map<String, String> customMappings;
+    private final Map<String, Class<?>> converterTypes;
+    private final Map<String, TypeConverter<Object, Object>> typeConverters;
+    private final Set<String> ignoredFields;
+    private final Map<String, Function<Object, Object>> lambdaConverters;
+    private final Map<Class<?>, String> temporalPatterns;
+    private final NamingConvention namingConvention;
+    private final boolean flattening;
+    private final NullValuePolicy nullValuePolicy;
+    private final boolean generatedAccessors;
+    private final boolean preserveReferences;
+    private final boolean checkOverflow;
+    private final int parallelThreshold;
+    private final GeneratedMapper<?, ?> generatedMapper;
+
+    MapperSettings(Map<String, String> customMappings,
+                   Map<String, Class<?>> converterTypes,
+                   Set<String> ignoredFields,
+                   GeneratedMapper<?, ?> generatedMapper) {
+        this.customMappings = Collections.unmodifiableMap(new HashMap<>(customMappings));
+        this.converterTypes = Collections.unmodifiableMap(new HashMap<>(converterTypes));
+        this.typeConverters = Collections.emptyMap();
+        this.ignoredFields = Collections.unmodifiableSet(new HashSet<>(ignoredFields));
+        this.lambdaConverters = Collections.emptyMap();
+        this.temporalPatterns = Collections.emptyMap();
+        this.namingConvention = null;
+        this.flattening = false;
+        this.nullValuePolicy = NullValuePolicy.SKIP;
+        this.generatedAccessors = false;
+        this.preserveReferences = false;
+        this.checkOverflow = false;
+        this.parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+        this.generatedMapper = generatedMapper;
+    }
+
+    private MapperSettings(Builder builder) {
+        this.customMappings = builder.customMappings;
+        this.converterTypes = builder.converterTypes;
+        this.typeConverters = builder.typeConverters;
+        this.ignoredFields = builder.ignoredFields;
+        this.lambdaConverters = builder.lambdaConverters;
+        this.temporalPatterns = builder.temporalPatterns;
+        this.namingConvention = builder.namingConvention;
+        this.flattening = builder.flattening;
+        this.nullValuePolicy = builder.nullValuePolicy;
+        this.generatedAccessors = builder.generatedAccessors;
+        this.preserveReferences = builder.preserveReferences;
+        this.checkOverflow = builder.checkOverflow;
+        this.parallelThreshold = builder.parallelThreshold;
+        this.generatedMapper = builder.generatedMapper;
+    }
+
+    /**
+     * Cópia para uma configuração programática. O mapper gerado em tempo de
+     * compilação só conhece as anotações, então deixa de ser usado.
+     */
+    private Builder customized() {
+        Builder copy = new Builder(this);
+        copy.generatedMapper = null;
+        return copy;
+    }
+
+    MapperSettings withCustomMappings(Map<String, String> mappings) {
+        Builder copy = customized();
+        copy.customMappings = merge(customMappings, mappings);
+        return copy.build();
+    }
+
+    MapperSettings withIgnoredField(String fieldName) {
+        Builder copy = customized();
+        Set<String> fields = new HashSet<>(ignoredFields);
+        fields.add(fieldName);
+        copy.ignoredFields = Collections.unmodifiableSet(fields);
+        return copy.build();
+    }
+
+    MapperSettings withLambdaConverter(String fieldName, Function<Object, Object> converter) {
+        Builder copy = customized();
+        copy.lambdaConverters = merge(lambdaConverters, Collections.singletonMap(fieldName, converter));
+        return copy.build();
+    }
+
+    MapperSettings withTypeConverter(String fieldName, TypeConverter<Object, Object> converter) {
+        Builder copy = customized();
+        copy.typeConverters = merge(typeConverters, Collections.singletonMap(fieldName, converter));
+        return copy.build();
+    }
+
+    MapperSettings withTemporalPattern(Class<?> temporalType, String pattern) {
+        Builder copy = customized();
+        Map<Class<?>, String> patterns = new HashMap<>(temporalPatterns);
+        patterns.put(temporalType, pattern);
+        copy.temporalPatterns = Collections.unmodifiableMap(patterns);
+        return copy.build();
+    }
+
+    MapperSettings withNamingConvention(NamingConvention convention) {
+        Builder copy = customized();
+        copy.namingConvention = convention;
+        return copy.build();
+    }
+
+    MapperSettings withFlattening(boolean flattening) {
+        Builder copy = customized();
+        copy.flattening = flattening;
+        return copy.build();
+    }
+
+    MapperSettings withNullValuePolicy(NullValuePolicy policy) {
+        // O mapper gerado ignora nulos, então só OVERWRITE deixa de usá-lo
+        Builder copy = policy == NullValuePolicy.SKIP ? new Builder(this) : customized();
+        copy.nullValuePolicy = policy;
+        return copy.build();
+    }
+
+    MapperSettings withGeneratedAccessors() {
+        Builder copy = new Builder(this);
+        copy.generatedAccessors = true;
+        return copy.build();
+    }
+
+    MapperSettings withPreserveReferences(boolean preserveReferences) {
+        Builder copy = new Builder(this);
+        copy.preserveReferences = preserveReferences;
+        return copy.build();
+    }
+
+    MapperSettings withCheckOverflow(boolean checkOverflow) {
+        Builder copy = customized();
+        copy.checkOverflow = checkOverflow;
+        return copy.build();
+    }
+
+    MapperSettings withParallelThreshold(int parallelThreshold) {
+        Builder copy = new Builder(this);
+        copy.parallelThreshold = parallelThreshold;
+        return copy.build();
+    }
+
+    Map<String, String> getCustomMappings() {
+        return customMappings;
+    }
+
+    /**
+     * Classes de conversor declaradas em @UseConverter, instanciadas na
+     * construção do plano
+     */
+    Map<String, Class<?>> getConverterTypes() {
+        return converterTypes;
+    }
+
+    Map<String, TypeConverter<Object, Object>> getTypeConverters() {
+        return typeConverters;
+    }
+
+    Set<String> getIgnoredFields() {
+        return ignoredFields;
+    }
+
+    Map<String, Function<Object, Object>> getLambdaConverters() {
+        return lambdaConverters;
+    }
+
+    Map<Class<?>, String> getTemporalPatterns() {
+        return temporalPatterns;
+    }
+
+    /**
+     * Convenção de nomes para campos sem correspondente exato, ou null
+     */
+    NamingConvention getNamingConvention() {
+        return namingConvention;
+    }
+
+    boolean isFlattening() {
+        return flattening;
+    }
+
+    NullValuePolicy getNullValuePolicy() {
+        return nullValuePolicy;
+    }
+
+    boolean isGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
+    boolean isPreserveReferences() {
+        return preserveReferences;
+    }
+
+    boolean isCheckOverflow() {
+        return checkOverflow;
+    }
+
+    /**
+     * Tamanho mínimo de coleção para o mapeamento paralelo
+     */
+    int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    GeneratedMapper<?, ?> getGeneratedMapper() {
+        return generatedMapper;
+    }
+
+    private static <V> Map<String, V> merge(Map<String, V> current, Map<String, ? extends V> additions) {
+        Map<String, V> merged = new HashMap<>(current);
+        merged.putAll(additions);
+        return Collections.unmodifiableMap(merged);
+    }
+
+    /**
+     * Cópia mutável usada pelas alterações, convertida em uma nova
+     * configuração imutável por build
+     */
+    private static final class Builder {
+        private Map<String, String> customMappings;
+        private Map<String, Class<?>> converterTypes;
+        private Map<String, TypeConverter<Object, Object>> typeConverters;
+        private Set<String> ignoredFields;
+        private Map<String, Function<Object, Object>> lambdaConverters;
+        private Map<Class<?>, String> temporalPatterns;
+        private NamingConvention namingConvention;
+        private boolean flattening;
+        private NullValuePolicy nullValuePolicy;
+        private boolean generatedAccessors;
+        private boolean preserveReferences;
+        private boolean checkOverflow;
+        private int parallelThreshold;
+        private GeneratedMapper<?, ?> generatedMapper;
+
+        Builder(MapperSettings settings) {
+            this.customMappings = settings.customMappings;
+            this.converterTypes = settings.converterTypes;
+            this.typeConverters = settings.typeConverters;
+            this.ignoredFields = settings.ignoredFields;
+            this.lambdaConverters = settings.lambdaConverters;
+            this.temporalPatterns = settings.temporalPatterns;
+            this.namingConvention = settings.namingConvention;
+            this.flattening = settings.flattening;
+            this.nullValuePolicy = settings.nullValuePolicy;
+            this.generatedAccessors = settings.generatedAccessors;
+            this.preserveReferences = settings.preserveReferences;
+            this.checkOverflow = settings.checkOverflow;
+            this.parallelThreshold = settings.parallelThreshold;
+            this.generatedMapper = settings.generatedMapper;
+        }
+
+        MapperSettings build() {
+            return new MapperSettings(this);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.automapper.core;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Estado de uma única chamada de mapeamento em modo de grafo: associa cada
+ * instância de origem, por identidade, à instância de destino já criada
+ */
+final class MappingContext {
+    private final Map<Object, Object> mapped = new IdentityHashMap<>();
+
+    /**
+     * Obtém o destino já criado para a origem, se for do tipo esperado
+     */
+    Object get(Object source, Class<?> targetType) {
+        Object target = mapped.get(source);
+        return targetType.isInstance(target) ? target : null;
+    }
+
+    /**
+     * Registra o destino antes do preenchimento das propriedades, para que
+     * referências cíclicas encontrem a instância em construção
+     */
+    void put(Object source, Object target) {
+        mapped.put(source, target);
+    }
+}
@@ -0,0 +1,246 @@
+package com.automapper.core;
+
+import com.automapper.metrics.MappingMetrics;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plano de mapeamento imutável, construído uma única vez por configuração
+ * de um par de tipos
+ */
+final class MappingPlan {
+    private final MapperSettings settings;
+    private final ConverterRegistry.Table converters;
+    private final PlanMetrics metrics;
+    private final Class<?> targetType;
+    private final GeneratedMapper<Object, Object> generatedMapper;
+    private final Instantiator instantiator;
+    private final PropertyMapping[] properties;
+    private final String[] targetNames;
+    private final Map<String, int[]> entriesBySource;
+
+    /**
+     * Plano por campos; os nomes do campo fonte e do campo alvo de cada
+     * entrada são usados pelo mapeamento incremental
+     */
+    MappingPlan(MapperSettings settings, ConverterRegistry.Table converters, PlanMetrics metrics, 
+                Class<?> targetType, Instantiator instantiator, PropertyMapping[] properties, 
+                String[] sourceNames, String[] targetNames) {
+        this.settings = settings;
+        this.converters = converters;
+        this.metrics = metrics;
+        this.targetType = targetType;
+        this.generatedMapper = null;
+        this.instantiator = instantiator;
+        this.properties = properties;
+        this.targetNames = targetNames;
+        this.entriesBySource = indexEntries(sourceNames);
+    }
+
+    /**
+     * Plano que delega ao mapper gerado em tempo de compilação
+     */
+    @SuppressWarnings("unchecked")
+    MappingPlan(MapperSettings settings, ConverterRegistry.Table converters, PlanMetrics metrics, 
+                Class<?> targetType, GeneratedMapper<?, ?> generatedMapper) {
+        this.settings = settings;
+        this.converters = converters;
+        this.metrics = metrics;
+        this.targetType = targetType;
+        this.generatedMapper = (GeneratedMapper<Object, Object>) generatedMapper;
+        this.instantiator = null;
+        this.properties = new PropertyMapping[0];
+        this.targetNames = new String[0];
+        this.entriesBySource = Collections.emptyMap();
+    }
+
+    /**
+     * Mapeia uma fonte de nível superior, abrindo um novo contexto quando o
+     * modo de grafo está ativo
+     */
+    Object execute(Object source) {
+        return execute(source, settings.isPreserveReferences() ? new MappingContext() : null);
+    }
+
+    /**
+     * Cria uma nova instância do alvo e aplica todas as propriedades do plano.
+     * Com contexto, uma fonte já mapeada na mesma chamada reutiliza o destino.
+     */
+    Object execute(Object source, MappingContext context) {
+        if (!metrics.isEnabled()) {
+            return run(source, context);
+        }
+
+        long start = metrics.enter();
+        try {
+            Object target = run(source, context);
+            metrics.completed(start);
+            return target;
+        } catch (RuntimeException e) {
+            metrics.failed(e);
+            throw e;
+        } finally {
+            metrics.exit();
+        }
+    }
+
+    private Object run(Object source, MappingContext context) {
+        if (generatedMapper != null) {
+            if (context != null) {
+                throw new IllegalStateException("Generated mapper plans cannot track references");
+            }
+            return generatedMapper.map(source);
+        }
+
+        if (context != null) {
+            Object mapped = context.get(source, targetType);
+            if (mapped != null) {
+                return mapped;
+            }
+        }
+
+        Object target = instantiator.newInstance();
+        if (context != null) {
+            context.put(source, target);
+        }
+
+        applyProperties(source, target, context);
+        return target;
+    }
+
+    /**
+     * Aplica as propriedades do plano a uma instância existente do alvo, sem
+     * instanciar um novo objeto
+     */
+    Object executeInto(Object source, Object target) {
+        if (!metrics.isEnabled()) {
+            return runInto(source, target);
+        }
+
+        long start = metrics.enter();
+        try {
+            runInto(source, target);
+            metrics.completed(start);
+            return target;
+        } catch (RuntimeException e) {
+            metrics.failed(e);
+            throw e;
+        } finally {
+            metrics.exit();
+        }
+    }
+
+    private Object runInto(Object source, Object target) {
+        if (generatedMapper != null) {
+            generatedMapper.map(source, target);
+            return target;
+        }
+
+        applyProperties(source, target, openContext(source, target));
+        return target;
+    }
+
+    private void applyProperties(Object source, Object target, MappingContext context) {
+        for (PropertyMapping property : properties) {
+            property.apply(source, target, context);
+        }
+    }
+
+    /**
+     * Reaplica as entradas cujo valor na fonte difere do instantâneo anterior
+     * e retorna os campos do alvo alterados
+     */
+    Set<String> executeChanges(Object previous, Object source, Object target) {
+        MappingContext context = openContext(source, target);
+        Set<String> changed = new LinkedHashSet<>();
+        for (int i = 0; i < properties.length; i++) {
+            if (previous == null || !ValueComparison.unchanged(properties[i].read(previous), properties[i].read(source))) {
+                applyChange(i, source, target, context, changed);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Reaplica as entradas que leem os campos da fonte informados e retorna
+     * os campos do alvo alterados
+     */
+    Set<String> executeChanges(Object source, Object target, Set<String> changedSourceFields) {
+        boolean[] selected = new boolean[properties.length];
+        for (String field : changedSourceFields) {
+            int[] entries = entriesBySource.get(field);
+            if (entries != null) {
+                for (int entry : entries) {
+                    selected[entry] = true;
+                }
+            }
+        }
+
+        MappingContext context = openContext(source, target);
+        Set<String> changed = new LinkedHashSet<>();
+        for (int i = 0; i < properties.length; i++) {
+            if (selected[i]) {
+                applyChange(i, source, target, context, changed);
+            }
+        }
+        return changed;
+    }
+
+    private void applyChange(int entry, Object source, Object target, MappingContext context, Set<String> changed) {
+        PropertyMapping property = properties[entry];
+        Object before = property.targetAccessor.get(target);
+        property.apply(source, target, context);
+        if (!ValueComparison.unchanged(before, property.targetAccessor.get(target))) {
+            changed.add(targetNames[entry]);
+        }
+    }
+
+    private MappingContext openContext(Object source, Object target) {
+        if (!settings.isPreserveReferences()) {
+            return null;
+        }
+        MappingContext context = new MappingContext();
+        context.put(source, target);
+        return context;
+    }
+
+    private static Map<String, int[]> indexEntries(String[] sourceNames) {
+        Map<String, List<Integer>> entries = new HashMap<>();
+        for (int i = 0; i < sourceNames.length; i++) {
+            entries.computeIfAbsent(sourceNames[i], name -> new ArrayList<>()).add(i);
+        }
+
+        Map<String, int[]> index = new HashMap<>();
+        entries.forEach((name, list) -> index.put(name, list.stream().mapToInt(Integer::intValue).toArray()));
+        return index;
+    }
+
+    /**
+     * Verifica se o plano foi construído com a configuração, os conversores e
+     * as métricas informados
+     */
+    boolean isBuiltWith(MapperSettings settings, ConverterRegistry.Table converters, MappingMetrics metrics) {
+        return this.settings == settings && this.converters == converters && this.metrics.getMetrics() == metrics;
+    }
+
+    boolean isGenerated() {
+        return generatedMapper != null;
+    }
+
+    MapperSettings getSettings() {
+        return settings;
+    }
+
+    ConverterRegistry.Table getConverters() {
+        return converters;
+    }
+
+    MappingMetrics getMetrics() {
+        return metrics.getMetrics();
+    }
+}
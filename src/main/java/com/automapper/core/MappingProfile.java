@@ -1,6 +1,10 @@
 package com.automapper.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -11,6 +15,8 @@ public abstract class MappingProfile {
     protected final Map<String, Object> configurations = new HashMap<>();
     protected final Map<String, Function<Object, Object>> converters = new HashMap<>();
     protected final Map<String, String> fieldMappings = new HashMap<>();
+    private final List<Runnable> registrations = new ArrayList<>();
+    private final Collection<AutoMapper<?, ?>> mappers = new LinkedHashSet<>();
     
     /**
      * Método abstrato para configurar os mapeamentos
@@ -25,11 +31,13 @@ public abstract class MappingProfile {
             Class<TTarget> targetType) {
         
         AutoMapper<TSource, TTarget> mapper = AutoMapper.create(sourceType, targetType);
+        mappers.add(mapper);
         return new MappingConfiguration<>(mapper);
     }
     
     /**
-     * Adiciona um conversor de tipo global
+     * Adiciona um conversor de tipo global, aplicado por todos os mappers a
+     * campos cujo par de tipos (ou supertipos da origem) corresponda
      */
     protected <TSource, TTarget> void addConverter(
             Class<TSource> sourceType,
@@ -40,6 +48,23 @@ public abstract class MappingProfile {
         @SuppressWarnings("unchecked")
         Function<Object, Object> objectConverter = (Function<Object, Object>) converter;
         converters.put(key, objectConverter);
+        ConverterRegistry.register(sourceType, targetType, converter);
+        registrations.add(() -> ConverterRegistry.unregister(sourceType, targetType, converter));
+    }
+
+    /**
+     * Mappers criados por createMap, validados por ProfileManager.validateAll
+     */
+    Collection<AutoMapper<?, ?>> getMappers() {
+        return mappers;
+    }
+
+    /**
+     * Remove do registro global os conversores adicionados por este profile
+     */
+    void unregisterConverters() {
+        registrations.forEach(Runnable::run);
+        registrations.clear();
     }
     
     /**
@@ -0,0 +1,147 @@
+package com.automapper.core;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Projeção de um mapeamento sobre um subconjunto dos campos do alvo, como em
+ * ?fields=nome,endereco.cidade. O plano da projeção lê e converte apenas os
+ * campos pedidos; caminhos aninhados usam a projeção do par de tipos aninhado.
+ * O AutoMapper mantém em cache uma instância por conjunto normalizado de
+ * caminhos, e o plano é reconstruído somente após uma reconfiguração do mapper.
+ */
+public final class MappingProjection<TSource, TTarget> {
+    private final AutoMapper<TSource, TTarget> mapper;
+    private final Set<String> paths;
+    private final Map<String, Set<String>> fields;
+    private volatile MappingPlan plan;
+
+    MappingProjection(AutoMapper<TSource, TTarget> mapper, Class<?> targetClass, Set<String> paths) {
+        this.mapper = mapper;
+        this.paths = paths;
+        this.fields = parse(targetClass, paths, "");
+    }
+
+    /**
+     * Caminhos da projeção, relativos ao tipo alvo
+     */
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Mapeia a fonte preenchendo apenas os campos da projeção
+     */
+    public TTarget map(TSource source) {
+        if (source == null) {
+            return null;
+        }
+        return mapper.mapWith(plan(), source);
+    }
+
+    /**
+     * Mapeia todos os elementos de uma coleção, resolvendo o plano uma única
+     * vez para o lote
+     */
+    public List<TTarget> mapAll(Collection<? extends TSource> sources) {
+        MappingPlan current = plan();
+        List<TTarget> targets = new ArrayList<>(sources.size());
+        for (TSource source : sources) {
+            targets.add(source == null ? null : mapper.mapWith(current, source));
+        }
+        return targets;
+    }
+
+    /**
+     * Mapeia um objeto aninhado dentro do contexto da chamada de nível superior
+     */
+    Object mapNested(Object source, MappingContext context) {
+        @SuppressWarnings("unchecked")
+        TSource typed = (TSource) source;
+        if (context == null) {
+            return map(typed);
+        }
+        return mapper.mapWith(plan(), typed, context);
+    }
+
+    private MappingPlan plan() {
+        MappingPlan current = plan;
+        if (current == null || !mapper.isCurrent(current)) {
+            current = mapper.buildProjectionPlan(fields);
+            plan = current;
+        }
+        return current;
+    }
+
+    /**
+     * Valida os caminhos contra o tipo alvo e remove os que já estão cobertos
+     * por um campo selecionado inteiro (endereco cobre endereco.cidade)
+     */
+    static Set<String> normalize(Class<?> targetClass, Set<String> paths) {
+        parse(targetClass, paths, "");
+        Set<String> normalized = new HashSet<>();
+        for (String path : paths) {
+            if (!isCovered(path, paths)) {
+                normalized.add(path);
+            }
+        }
+        return Collections.unmodifiableSet(normalized);
+    }
+
+    private static boolean isCovered(String path, Set<String> paths) {
+        for (int dot = path.indexOf('.'); dot >= 0; dot = path.indexOf('.', dot + 1)) {
+            if (paths.contains(path.substring(0, dot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Agrupa os caminhos por campo do alvo (campo -> subcaminhos), validando
+     * cada segmento; um conjunto vazio de subcaminhos seleciona o campo inteiro
+     */
+    private static Map<String, Set<String>> parse(Class<?> targetClass, Set<String> paths, String prefix) {
+        Map<String, Set<String>> fields = new HashMap<>();
+        Set<String> whole = new HashSet<>();
+        for (String path : paths) {
+            if (path == null || path.isEmpty()) {
+                throw new IllegalArgumentException("Projection paths must not be null or empty");
+            }
+
+            int dot = path.indexOf('.');
+            String field = dot < 0 ? path : path.substring(0, dot);
+            Field targetField = ClassMetadata.of(targetClass).getField(field);
+            if (targetField == null) {
+                throw new IllegalArgumentException("Unknown field '" + field + "' in projection path '" + 
+                                                   prefix + path + "' for " + targetClass.getName());
+            }
+
+            Set<String> nested = fields.computeIfAbsent(field, key -> new HashSet<>());
+            if (dot < 0) {
+                whole.add(field);
+            } else {
+                nested.add(path.substring(dot + 1));
+            }
+        }
+
+        Map<String, Set<String>> result = new HashMap<>();
+        fields.forEach((field, nested) -> {
+            if (whole.contains(field)) {
+                result.put(field, Collections.emptySet());
+            } else {
+                // Valida os subcaminhos contra o tipo do campo aninhado
+                parse(ClassMetadata.of(targetClass).getField(field).getType(), nested, prefix + field + ".");
+                result.put(field, Collections.unmodifiableSet(nested));
+            }
+        });
+        return Collections.unmodifiableMap(result);
+    }
+}
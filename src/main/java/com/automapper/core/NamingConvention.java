@@ -0,0 +1,56 @@
+package com.automapper.core;
+
+import java.util.Locale;
+
+/**
+ * Convenção de nomes usada para associar campos da fonte e do alvo com nomes
+ * diferentes. Cada nome é reduzido a uma chave e campos com a mesma chave são
+ * associados. A normalização roda apenas na construção do plano, nunca
+ * durante o mapeamento.
+ */
+@FunctionalInterface
+public interface NamingConvention {
+
+    /**
+     * Associa camelCase e snake_case ignorando sublinhados e maiúsculas:
+     * dataNascimento, data_nascimento e DATA_NASCIMENTO têm a mesma chave
+     */
+    NamingConvention CAMEL_SNAKE_CASE = name -> name.replace("_", "").toLowerCase(Locale.ROOT);
+
+    /**
+     * Reduz o nome do campo à chave usada na comparação
+     */
+    String normalize(String fieldName);
+
+    /**
+     * Aplica esta convenção e, em seguida, a informada
+     */
+    default NamingConvention andThen(NamingConvention next) {
+        return name -> next.normalize(normalize(name));
+    }
+
+    /**
+     * Remove o primeiro prefixo encontrado quando ele é seguido de uma
+     * maiúscula ou de sublinhado: dtNascimento e dt_nascimento viram nascimento
+     */
+    static NamingConvention stripPrefixes(String... prefixes) {
+        String[] copy = prefixes.clone();
+        return name -> {
+            for (String prefix : copy) {
+                int length = prefix.length();
+                if (name.length() <= length + 1 || !name.startsWith(prefix)) {
+                    continue;
+                }
+
+                char next = name.charAt(length);
+                if (next == '_') {
+                    return name.substring(length + 1);
+                }
+                if (Character.isUpperCase(next)) {
+                    return Character.toLowerCase(next) + name.substring(length + 1);
+                }
+            }
+            return name;
+        };
+    }
+}
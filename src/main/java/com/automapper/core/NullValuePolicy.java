@@ -0,0 +1,17 @@
+package com.automapper.core;
+
+/**
+ * Tratamento de valores nulos da fonte durante o mapeamento
+ */
+public enum NullValuePolicy {
+    /**
+     * Mantém o valor atual do campo alvo (comportamento padrão)
+     */
+    SKIP,
+
+    /**
+     * Escreve null no campo alvo, ou o valor padrão (0, false) quando ele é
+     * primitivo
+     */
+    OVERWRITE
+}
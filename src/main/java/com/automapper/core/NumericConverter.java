@@ -0,0 +1,182 @@
+package com.automapper.core;
+
+/**
+ * Conversão entre os tipos primitivos e seus wrappers, escolhida uma única vez
+ * na construção do plano. Tipos inteiros (incluindo char e boolean) trafegam
+ * como long e tipos de ponto flutuante como double, sem wrappers intermediários.
+ * Com a verificação de overflow ativa, valores que não cabem no destino lançam
+ * ArithmeticException em vez de serem truncados.
+ */
+final class NumericConverter implements ValueConverter {
+    private static final double LONG_LIMIT = 0x1p63;
+
+    private final Class<?> targetType;
+    private final boolean boxedTarget;
+    private final boolean checkOverflow;
+
+    NumericConverter(Class<?> targetType, boolean checkOverflow) {
+        this.targetType = primitive(targetType);
+        this.boxedTarget = !targetType.isPrimitive();
+        this.checkOverflow = checkOverflow;
+    }
+
+    /**
+     * Verifica se o tipo é um primitivo ou o wrapper de um primitivo
+     */
+    static boolean supports(Class<?> type) {
+        return type != void.class && primitive(type).isPrimitive();
+    }
+
+    /**
+     * Verifica se o tipo trafega como double (float, double e seus wrappers)
+     */
+    static boolean isFloating(Class<?> type) {
+        Class<?> primitive = primitive(type);
+        return primitive == double.class || primitive == float.class;
+    }
+
+    @Override
+    public Object convert(Object value, MappingContext context) {
+        if (value instanceof Double || value instanceof Float) {
+            return fromDouble(((Number) value).doubleValue());
+        }
+        return fromLong(toLong(value));
+    }
+
+    /**
+     * Lê um valor inteiro de um wrapper (Number, Character ou Boolean)
+     */
+    static long toLong(Object value) {
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1L : 0L;
+        }
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * Escreve um valor inteiro no campo alvo pelo acessor tipado
+     */
+    void writeLong(FieldAccessor accessor, Object target, long value) {
+        if (boxedTarget) {
+            accessor.set(target, fromLong(value));
+        } else if (targetType == int.class) {
+            accessor.setInt(target, (int) checkRange(value, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        } else if (targetType == long.class) {
+            accessor.setLong(target, value);
+        } else if (targetType == double.class) {
+            accessor.setDouble(target, value);
+        } else if (targetType == float.class) {
+            accessor.setFloat(target, value);
+        } else if (targetType == boolean.class) {
+            accessor.setBoolean(target, value != 0);
+        } else if (targetType == char.class) {
+            accessor.setChar(target, (char) checkRange(value, Character.MIN_VALUE, Character.MAX_VALUE));
+        } else if (targetType == short.class) {
+            accessor.setShort(target, (short) checkRange(value, Short.MIN_VALUE, Short.MAX_VALUE));
+        } else {
+            accessor.setByte(target, (byte) checkRange(value, Byte.MIN_VALUE, Byte.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Escreve um valor de ponto flutuante no campo alvo pelo acessor tipado
+     */
+    void writeDouble(FieldAccessor accessor, Object target, double value) {
+        if (boxedTarget) {
+            accessor.set(target, fromDouble(value));
+        } else if (targetType == double.class) {
+            accessor.setDouble(target, value);
+        } else if (targetType == float.class) {
+            accessor.setFloat(target, toFloat(value));
+        } else if (targetType == boolean.class) {
+            accessor.setBoolean(target, value != 0);
+        } else {
+            writeLong(accessor, target, toIntegral(value));
+        }
+    }
+
+    /**
+     * Converte um valor inteiro para o wrapper do tipo de destino
+     */
+    Object fromLong(long value) {
+        if (targetType == int.class) {
+            return (int) checkRange(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        } else if (targetType == long.class) {
+            return value;
+        } else if (targetType == double.class) {
+            return (double) value;
+        } else if (targetType == float.class) {
+            return (float) value;
+        } else if (targetType == boolean.class) {
+            return value != 0;
+        } else if (targetType == char.class) {
+            return (char) checkRange(value, Character.MIN_VALUE, Character.MAX_VALUE);
+        } else if (targetType == short.class) {
+            return (short) checkRange(value, Short.MIN_VALUE, Short.MAX_VALUE);
+        } else {
+            return (byte) checkRange(value, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Converte um valor de ponto flutuante para o wrapper do tipo de destino
+     */
+    Object fromDouble(double value) {
+        if (targetType == double.class) {
+            return value;
+        } else if (targetType == float.class) {
+            return toFloat(value);
+        } else if (targetType == boolean.class) {
+            return value != 0;
+        }
+        return fromLong(toIntegral(value));
+    }
+
+    private long checkRange(long value, long min, long max) {
+        if (checkOverflow && (value < min || value > max)) {
+            throw overflow(value);
+        }
+        return value;
+    }
+
+    private float toFloat(double value) {
+        if (checkOverflow && Double.isFinite(value) && Math.abs(value) > Float.MAX_VALUE) {
+            throw overflow(value);
+        }
+        return (float) value;
+    }
+
+    /**
+     * Trunca para inteiro; a faixa do tipo de destino é verificada na escrita
+     */
+    private long toIntegral(double value) {
+        if (checkOverflow && !(value >= -LONG_LIMIT && value < LONG_LIMIT)) {
+            throw overflow(value);
+        }
+        if (targetType == long.class) {
+            return (long) value;
+        }
+        // Sem verificação, segue a semântica do cast de double para int
+        return checkOverflow ? (long) value : (int) value;
+    }
+
+    private ArithmeticException overflow(Object value) {
+        return new ArithmeticException("Value " + value + " overflows target type " + targetType.getName());
+    }
+
+    private static Class<?> primitive(Class<?> type) {
+        if (type.isPrimitive()) return type;
+        if (type == Integer.class) return int.class;
+        if (type == Long.class) return long.class;
+        if (type == Double.class) return double.class;
+        if (type == Float.class) return float.class;
+        if (type == Boolean.class) return boolean.class;
+        if (type == Character.class) return char.class;
+        if (type == Short.class) return short.class;
+        if (type == Byte.class) return byte.class;
+        return type;
+    }
+}
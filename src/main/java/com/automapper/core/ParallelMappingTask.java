@@ -0,0 +1,59 @@
+package com.automapper.core;
+
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tarefa fork-join que divide a fonte com um Spliterator e mapeia cada parte
+ * direto na sua posição do array de resultados, preservando a ordem
+ */
+final class ParallelMappingTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final MappingPlan plan;
+    private final Spliterator<?> spliterator;
+    private final Object[] results;
+    private final int offset;
+    private final long leafSize;
+    private final AtomicBoolean failed;
+
+    ParallelMappingTask(MappingPlan plan, Spliterator<?> spliterator, Object[] results, long leafSize) {
+        this(plan, spliterator, results, 0, leafSize, new AtomicBoolean());
+    }
+
+    private ParallelMappingTask(MappingPlan plan, Spliterator<?> spliterator, Object[] results, int offset,
+                                long leafSize, AtomicBoolean failed) {
+        this.plan = plan;
+        this.spliterator = spliterator;
+        this.results = results;
+        this.offset = offset;
+        this.leafSize = leafSize;
+        this.failed = failed;
+    }
+
+    @Override
+    protected void compute() {
+        if (spliterator.estimateSize() > leafSize) {
+            Spliterator<?> prefix = spliterator.trySplit();
+            if (prefix != null) {
+                int suffixOffset = offset + (int) prefix.getExactSizeIfKnown();
+                invokeAll(
+                    new ParallelMappingTask(plan, prefix, results, offset, leafSize, failed),
+                    new ParallelMappingTask(plan, spliterator, results, suffixOffset, leafSize, failed));
+                return;
+            }
+        }
+
+        int[] index = {offset};
+        try {
+            // Interrompe as demais partes assim que uma delas falhar
+            while (!failed.get() && spliterator.tryAdvance(source ->
+                    results[index[0]++] = source == null ? null : plan.execute(source))) {
+            }
+        } catch (RuntimeException e) {
+            failed.set(true);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.automapper.core;
+
+import com.automapper.metrics.MappingMetrics;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Liga um plano à implementação de métricas capturada na sua construção.
+ * Com NOOP o plano não mede nada: nem relógio, nem ThreadLocal, nem
+ * conversores embrulhados. O par é registrado na implementação aqui, fora do
+ * caminho do mapeamento; se o registro falhar, o plano não é instrumentado.
+ */
+final class PlanMetrics {
+    /**
+     * Profundidade atual e máxima do mapeamento aninhado na thread
+     */
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[2]);
+
+    /**
+     * Pares cuja falha de registro já foi registrada em log
+     */
+    private static final Set<String> FAILED_PAIRS = ConcurrentHashMap.newKeySet();
+
+    private final MappingMetrics installed;
+    private final MappingMetrics metrics;
+    private final Class<?> sourceType;
+    private final Class<?> targetType;
+    private final boolean enabled;
+
+    private PlanMetrics(MappingMetrics installed, MappingMetrics metrics, Class<?> sourceType, Class<?> targetType) {
+        this.installed = installed;
+        this.metrics = metrics;
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.enabled = metrics != MappingMetrics.NOOP;
+    }
+
+    /**
+     * Registra o par na implementação instalada. Uma falha é registrada em
+     * log uma única vez por par e o plano passa a usar NOOP.
+     */
+    static PlanMetrics of(MappingMetrics installed, Class<?> sourceType, Class<?> targetType) {
+        MappingMetrics metrics = installed;
+        if (installed != MappingMetrics.NOOP) {
+            try {
+                installed.register(sourceType, targetType);
+            } catch (RuntimeException e) {
+                String pair = sourceType.getName() + " -> " + targetType.getName();
+                if (FAILED_PAIRS.add(pair)) {
+                    System.getLogger(PlanMetrics.class.getName()).log(System.Logger.Level.WARNING, 
+                        "Mapping metrics disabled for " + pair, e);
+                }
+                metrics = MappingMetrics.NOOP;
+            }
+        }
+        return new PlanMetrics(installed, metrics, sourceType, targetType);
+    }
+
+    /**
+     * Implementação instalada na construção do plano, mesmo que o registro
+     * do par tenha falhado
+     */
+    MappingMetrics getMetrics() {
+        return installed;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Início de uma chamada de mapeamento do par; retorna o instante inicial
+     */
+    long enter() {
+        int[] depth = DEPTH.get();
+        if (++depth[0] > depth[1]) {
+            depth[1] = depth[0];
+        }
+        return System.nanoTime();
+    }
+
+    void completed(long start) {
+        metrics.mapCompleted(sourceType, targetType, System.nanoTime() - start);
+    }
+
+    void failed(RuntimeException failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        metrics.mapFailed(sourceType, targetType, cause);
+    }
+
+    /**
+     * Fim de uma chamada; ao sair da chamada de nível superior reporta a
+     * profundidade máxima atingida
+     */
+    void exit() {
+        int[] depth = DEPTH.get();
+        if (--depth[0] == 0) {
+            metrics.nestedDepth(sourceType, targetType, depth[1]);
+            depth[1] = 0;
+        }
+    }
+
+    void planBuilt(long nanos) {
+        if (enabled) {
+            metrics.planBuilt(sourceType, targetType, nanos);
+        }
+    }
+
+    /**
+     * Embrulha o conversor customizado de um campo para medir cada chamada
+     */
+    ValueConverter timed(String field, ValueConverter converter) {
+        if (!enabled) {
+            return converter;
+        }
+        return (value, context) -> {
+            long start = System.nanoTime();
+            try {
+                return converter.convert(value, context);
+            } finally {
+                metrics.converterInvoked(sourceType, targetType, field, System.nanoTime() - start);
+            }
+        };
+    }
+}
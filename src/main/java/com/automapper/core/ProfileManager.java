@@ -1,7 +1,11 @@
 package com.automapper.core;
 
+import com.automapper.validation.ValidationResult;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Gerenciador de profiles de mapeamento
@@ -14,7 +18,10 @@ public class ProfileManager {
      */
     public static void registerProfile(String name, MappingProfile profile) {
         profile.configure();
-        profiles.put(name, profile);
+        MappingProfile previous = profiles.put(name, profile);
+        if (previous != null && previous != profile) {
+            previous.unregisterConverters();
+        }
     }
     
     /**
@@ -25,10 +32,13 @@ public class ProfileManager {
     }
     
     /**
-     * Remove um profile
+     * Remove um profile e os conversores globais que ele registrou
      */
     public static void removeProfile(String name) {
-        profiles.remove(name);
+        MappingProfile removed = profiles.remove(name);
+        if (removed != null) {
+            removed.unregisterConverters();
+        }
     }
     
     /**
@@ -44,4 +54,21 @@ public class ProfileManager {
     public static boolean hasProfile(String name) {
         return profiles.containsKey(name);
     }
+
+    /**
+     * Valida em paralelo todos os mapeamentos criados pelos profiles
+     * registrados e compila seus planos. Chamado na inicialização, antecipa os
+     * erros de configuração e o custo do primeiro mapeamento. O resultado é
+     * indexado pelo par de tipos ("Fonte -> Alvo").
+     */
+    public static Map<String, ValidationResult> validateAll() {
+        List<AutoMapper<?, ?>> mappers = profiles.values().stream()
+            .flatMap(profile -> profile.getMappers().stream())
+            .distinct()
+            .collect(Collectors.toList());
+
+        return mappers.parallelStream()
+            .collect(Collectors.toMap(AutoMapper::describePair, AutoMapper::validateMapping,
+                (first, second) -> first, LinkedHashMap::new));
+    }
 }
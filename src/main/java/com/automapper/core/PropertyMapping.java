@@ -0,0 +1,234 @@
+package com.automapper.core;
+
+import java.lang.reflect.Array;
+
+/**
+ * Par de campos fonte/alvo resolvido com o conversor já escolhido
+ */
+class PropertyMapping {
+    protected final FieldAccessor sourceAccessor;
+    protected final FieldAccessor targetAccessor;
+    private final ValueConverter converter;
+    private final boolean overwriteNulls;
+    private final Object nullValue;
+
+    PropertyMapping(FieldAccessor sourceAccessor, FieldAccessor targetAccessor, ValueConverter converter,
+                    NullValuePolicy nullPolicy, Class<?> targetType) {
+        this.sourceAccessor = sourceAccessor;
+        this.targetAccessor = targetAccessor;
+        this.converter = converter;
+        this.overwriteNulls = nullPolicy == NullValuePolicy.OVERWRITE;
+        // Valor padrão do tipo: null para referências, 0 ou false para primitivos
+        this.nullValue = targetType.isPrimitive() ? Array.get(Array.newInstance(targetType, 1), 0) : null;
+    }
+
+    /**
+     * Cria a cópia direta de um campo primitivo, sem boxing
+     */
+    static PropertyMapping primitiveCopy(FieldAccessor sourceAccessor, FieldAccessor targetAccessor,
+                                         Class<?> primitiveType) {
+        return new PrimitiveCopy(sourceAccessor, targetAccessor, primitiveType);
+    }
+
+    /**
+     * Cria a conversão numérica entre campos primitivos (ou wrappers) de tipos
+     * diferentes, lendo e escrevendo pelos acessores tipados
+     */
+    static PropertyMapping numericConversion(FieldAccessor sourceAccessor, FieldAccessor targetAccessor,
+                                             Class<?> sourceType, NumericConverter converter,
+                                             NullValuePolicy nullPolicy, Class<?> targetType) {
+        return new NumericConversion(sourceAccessor, targetAccessor, sourceType, converter, nullPolicy, targetType);
+    }
+
+    /**
+     * Cria a chamada sem boxing de um conversor primitivo customizado
+     */
+    static PropertyMapping specializedConversion(FieldAccessor sourceAccessor, FieldAccessor targetAccessor,
+                                                 SpecializedConverter converter,
+                                                 NullValuePolicy nullPolicy, Class<?> targetType) {
+        return new SpecializedConversion(sourceAccessor, targetAccessor, converter, nullPolicy, targetType);
+    }
+
+    /**
+     * Cria a leitura de um caminho aninhado da fonte para um campo achatado do
+     * alvo; um valor intermediário nulo é tratado como fonte nula, ou seja,
+     * deixa o alvo inalterado com SKIP e grava null (ou o valor padrão de um
+     * campo primitivo) com OVERWRITE
+     */
+    static PropertyMapping nestedSource(FieldAccessor[] path, FieldAccessor targetAccessor,
+                                        ValueConverter converter, NullValuePolicy nullPolicy, 
+                                        Class<?> targetType) {
+        return new NestedSource(path, targetAccessor, converter, nullPolicy, targetType);
+    }
+
+    /**
+     * Copia o valor da propriedade da fonte para o alvo
+     */
+    void apply(Object source, Object target, MappingContext context) {
+        Object sourceValue = sourceAccessor.get(source);
+
+        if (sourceValue == null) {
+            applyNull(target);
+            return;
+        }
+
+        targetAccessor.set(target, converter.convert(sourceValue, context));
+    }
+
+    /**
+     * Lê o valor de origem da entrada, usado na comparação do mapeamento
+     * incremental
+     */
+    Object read(Object source) {
+        return sourceAccessor.get(source);
+    }
+
+    /**
+     * Aplica a política de nulos a um valor ausente na fonte
+     */
+    protected void applyNull(Object target) {
+        if (overwriteNulls) {
+            targetAccessor.set(target, nullValue);
+        }
+    }
+
+    /**
+     * Cópia de campos primitivos de mesmo tipo pelos acessores tipados
+     */
+    private static final class PrimitiveCopy extends PropertyMapping {
+        private final Class<?> type;
+
+        PrimitiveCopy(FieldAccessor sourceAccessor, FieldAccessor targetAccessor, Class<?> type) {
+            super(sourceAccessor, targetAccessor, ValueConverter.IDENTITY, NullValuePolicy.SKIP, type);
+            this.type = type;
+        }
+
+        @Override
+        void apply(Object source, Object target, MappingContext context) {
+            if (type == int.class) {
+                targetAccessor.setInt(target, sourceAccessor.getInt(source));
+            } else if (type == long.class) {
+                targetAccessor.setLong(target, sourceAccessor.getLong(source));
+            } else if (type == double.class) {
+                targetAccessor.setDouble(target, sourceAccessor.getDouble(source));
+            } else if (type == float.class) {
+                targetAccessor.setFloat(target, sourceAccessor.getFloat(source));
+            } else if (type == boolean.class) {
+                targetAccessor.setBoolean(target, sourceAccessor.getBoolean(source));
+            } else if (type == char.class) {
+                targetAccessor.setChar(target, sourceAccessor.getChar(source));
+            } else if (type == short.class) {
+                targetAccessor.setShort(target, sourceAccessor.getShort(source));
+            } else {
+                targetAccessor.setByte(target, sourceAccessor.getByte(source));
+            }
+        }
+    }
+
+    /**
+     * Conversão numérica sem wrappers intermediários quando a fonte é primitiva
+     */
+    private static final class NumericConversion extends PropertyMapping {
+        private final Class<?> type;
+        private final boolean floating;
+        private final NumericConverter converter;
+
+        NumericConversion(FieldAccessor sourceAccessor, FieldAccessor targetAccessor, Class<?> type,
+                          NumericConverter converter, NullValuePolicy nullPolicy, Class<?> targetType) {
+            super(sourceAccessor, targetAccessor, converter, nullPolicy, targetType);
+            this.type = type;
+            this.floating = NumericConverter.isFloating(type);
+            this.converter = converter;
+        }
+
+        @Override
+        void apply(Object source, Object target, MappingContext context) {
+            if (!type.isPrimitive()) {
+                Object value = sourceAccessor.get(source);
+                if (value == null) {
+                    applyNull(target);
+                    return;
+                }
+                if (floating) {
+                    converter.writeDouble(targetAccessor, target, ((Number) value).doubleValue());
+                } else {
+                    converter.writeLong(targetAccessor, target, NumericConverter.toLong(value));
+                }
+            } else if (type == double.class) {
+                converter.writeDouble(targetAccessor, target, sourceAccessor.getDouble(source));
+            } else if (type == float.class) {
+                converter.writeDouble(targetAccessor, target, sourceAccessor.getFloat(source));
+            } else if (type == int.class) {
+                converter.writeLong(targetAccessor, target, sourceAccessor.getInt(source));
+            } else if (type == long.class) {
+                converter.writeLong(targetAccessor, target, sourceAccessor.getLong(source));
+            } else if (type == boolean.class) {
+                converter.writeLong(targetAccessor, target, sourceAccessor.getBoolean(source) ? 1L : 0L);
+            } else if (type == char.class) {
+                converter.writeLong(targetAccessor, target, sourceAccessor.getChar(source));
+            } else if (type == short.class) {
+                converter.writeLong(targetAccessor, target, sourceAccessor.getShort(source));
+            } else {
+                converter.writeLong(targetAccessor, target, sourceAccessor.getByte(source));
+            }
+        }
+    }
+
+    /**
+     * Conversor primitivo customizado chamado pelos acessores tipados
+     */
+    private static final class SpecializedConversion extends PropertyMapping {
+        private final SpecializedConverter converter;
+
+        SpecializedConversion(FieldAccessor sourceAccessor, FieldAccessor targetAccessor,
+                              SpecializedConverter converter, NullValuePolicy nullPolicy, Class<?> targetType) {
+            super(sourceAccessor, targetAccessor, converter, nullPolicy, targetType);
+            this.converter = converter;
+        }
+
+        @Override
+        void apply(Object source, Object target, MappingContext context) {
+            if (!converter.transfer(sourceAccessor, source, targetAccessor, target)) {
+                applyNull(target);
+            }
+        }
+    }
+
+    /**
+     * Leitura encadeada de um caminho da fonte (endereco.cidade)
+     */
+    private static final class NestedSource extends PropertyMapping {
+        private final FieldAccessor[] path;
+        private final ValueConverter converter;
+
+        NestedSource(FieldAccessor[] path, FieldAccessor targetAccessor, ValueConverter converter,
+                     NullValuePolicy nullPolicy, Class<?> targetType) {
+            super(path[path.length - 1], targetAccessor, converter, nullPolicy, targetType);
+            this.path = path;
+            this.converter = converter;
+        }
+
+        @Override
+        Object read(Object source) {
+            Object value = source;
+            for (FieldAccessor accessor : path) {
+                value = accessor.get(value);
+                if (value == null) {
+                    return null;
+                }
+            }
+            return value;
+        }
+
+        @Override
+        void apply(Object source, Object target, MappingContext context) {
+            Object value = read(source);
+            if (value == null) {
+                applyNull(target);
+                return;
+            }
+
+            targetAccessor.set(target, converter.convert(value, context));
+        }
+    }
+}
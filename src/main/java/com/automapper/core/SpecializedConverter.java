@@ -0,0 +1,203 @@
+package com.automapper.core;
+
+/**
+ * Adapta um conversor primitivo (IntConverter, LongToObjectConverter,
+ * ToDoubleConverter...) a um par de campos. A forma do conversor é resolvida
+ * na construção do plano; com fonte primitiva o valor é lido pelo acessor
+ * tipado e resultados primitivos são escritos pelo NumericConverter do campo
+ * alvo, sem wrappers intermediários.
+ */
+final class SpecializedConverter implements ValueConverter {
+    private static final int INT_TO_INT = 0;
+    private static final int LONG_TO_LONG = 1;
+    private static final int DOUBLE_TO_DOUBLE = 2;
+    private static final int INT_TO_OBJECT = 3;
+    private static final int LONG_TO_OBJECT = 4;
+    private static final int DOUBLE_TO_OBJECT = 5;
+    private static final int OBJECT_TO_INT = 6;
+    private static final int OBJECT_TO_LONG = 7;
+    private static final int OBJECT_TO_DOUBLE = 8;
+
+    private final Object converter;
+    private final int shape;
+    private final Class<?> sourceType;
+    private final NumericConverter output;
+
+    private SpecializedConverter(Object converter, int shape, Class<?> sourceType, NumericConverter output) {
+        this.converter = converter;
+        this.shape = shape;
+        this.sourceType = sourceType;
+        this.output = output;
+    }
+
+    /**
+     * Cria o adaptador para o par de campos, ou retorna null se o conversor
+     * não for uma especialização primitiva
+     */
+    static SpecializedConverter of(Object converter, Class<?> sourceType, Class<?> targetType,
+                                   boolean checkOverflow) {
+        int shape = shape(converter);
+        if (shape < 0) {
+            return null;
+        }
+
+        Class<?> input = shape == INT_TO_INT || shape == INT_TO_OBJECT ? int.class
+            : shape == LONG_TO_LONG || shape == LONG_TO_OBJECT ? long.class
+            : shape == DOUBLE_TO_DOUBLE || shape == DOUBLE_TO_OBJECT ? double.class : null;
+        if (input != null && !widens(sourceType, input)) {
+            throw new IllegalArgumentException("Converter " + converter.getClass().getName() + " accepts " +
+                input.getName() + " but the source field is " + sourceType.getName());
+        }
+
+        NumericConverter output = null;
+        if (shape <= DOUBLE_TO_DOUBLE || shape >= OBJECT_TO_INT) {
+            if (!NumericConverter.supports(targetType)) {
+                throw new IllegalArgumentException("Converter " + converter.getClass().getName() +
+                    " returns a primitive but the target field is " + targetType.getName());
+            }
+            output = new NumericConverter(targetType, checkOverflow);
+        }
+        return new SpecializedConverter(converter, shape, sourceType, output);
+    }
+
+    /**
+     * Verifica se o conversor é uma das especializações primitivas
+     */
+    static boolean isSpecialized(Object converter) {
+        return shape(converter) >= 0;
+    }
+
+    /**
+     * Indica se o par de campos usa o caminho tipado de transfer; fontes
+     * wrapper passam pelo caminho com objetos para tratar null
+     */
+    boolean supportsTransfer() {
+        return sourceType.isPrimitive() || shape >= OBJECT_TO_INT;
+    }
+
+    /**
+     * Caminho com wrappers, usado quando a fonte é um objeto
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object convert(Object value, MappingContext context) {
+        switch (shape) {
+            case INT_TO_INT:
+                return output.fromLong(((IntConverter) converter).convert((int) NumericConverter.toLong(value)));
+            case LONG_TO_LONG:
+                return output.fromLong(((LongConverter) converter).convert(NumericConverter.toLong(value)));
+            case DOUBLE_TO_DOUBLE:
+                return output.fromDouble(((DoubleConverter) converter).convert(((Number) value).doubleValue()));
+            case INT_TO_OBJECT:
+                return ((IntToObjectConverter<Object>) converter).fromInt((int) NumericConverter.toLong(value));
+            case LONG_TO_OBJECT:
+                return ((LongToObjectConverter<Object>) converter).fromLong(NumericConverter.toLong(value));
+            case DOUBLE_TO_OBJECT:
+                return ((DoubleToObjectConverter<Object>) converter).fromDouble(((Number) value).doubleValue());
+            case OBJECT_TO_INT:
+                return output.fromLong(((ToIntConverter<Object>) converter).toInt(value));
+            case OBJECT_TO_LONG:
+                return output.fromLong(((ToLongConverter<Object>) converter).toLong(value));
+            default:
+                return output.fromDouble(((ToDoubleConverter<Object>) converter).toDouble(value));
+        }
+    }
+
+    /**
+     * Caminho sem boxing: lê a fonte primitiva (ou o objeto, para conversores
+     * To*Converter) e escreve o resultado no campo alvo. Retorna false se a
+     * fonte for nula e nada for escrito.
+     */
+    @SuppressWarnings("unchecked")
+    boolean transfer(FieldAccessor sourceAccessor, Object source, FieldAccessor targetAccessor, Object target) {
+        switch (shape) {
+            case INT_TO_INT:
+                output.writeLong(targetAccessor, target,
+                    ((IntConverter) converter).convert(readInt(sourceAccessor, source)));
+                break;
+            case LONG_TO_LONG:
+                output.writeLong(targetAccessor, target,
+                    ((LongConverter) converter).convert(readLong(sourceAccessor, source)));
+                break;
+            case DOUBLE_TO_DOUBLE:
+                output.writeDouble(targetAccessor, target,
+                    ((DoubleConverter) converter).convert(readDouble(sourceAccessor, source)));
+                break;
+            case INT_TO_OBJECT:
+                targetAccessor.set(target,
+                    ((IntToObjectConverter<Object>) converter).fromInt(readInt(sourceAccessor, source)));
+                break;
+            case LONG_TO_OBJECT:
+                targetAccessor.set(target,
+                    ((LongToObjectConverter<Object>) converter).fromLong(readLong(sourceAccessor, source)));
+                break;
+            case DOUBLE_TO_OBJECT:
+                targetAccessor.set(target,
+                    ((DoubleToObjectConverter<Object>) converter).fromDouble(readDouble(sourceAccessor, source)));
+                break;
+            default:
+                Object value = sourceAccessor.get(source);
+                if (value == null) {
+                    return false;
+                }
+                if (shape == OBJECT_TO_INT) {
+                    output.writeLong(targetAccessor, target, ((ToIntConverter<Object>) converter).toInt(value));
+                } else if (shape == OBJECT_TO_LONG) {
+                    output.writeLong(targetAccessor, target, ((ToLongConverter<Object>) converter).toLong(value));
+                } else {
+                    output.writeDouble(targetAccessor, target,
+                        ((ToDoubleConverter<Object>) converter).toDouble(value));
+                }
+        }
+        return true;
+    }
+
+    private int readInt(FieldAccessor accessor, Object source) {
+        if (sourceType == int.class) return accessor.getInt(source);
+        if (sourceType == short.class) return accessor.getShort(source);
+        if (sourceType == char.class) return accessor.getChar(source);
+        return accessor.getByte(source);
+    }
+
+    private long readLong(FieldAccessor accessor, Object source) {
+        if (sourceType == long.class) return accessor.getLong(source);
+        return readInt(accessor, source);
+    }
+
+    private double readDouble(FieldAccessor accessor, Object source) {
+        if (sourceType == double.class) return accessor.getDouble(source);
+        if (sourceType == float.class) return accessor.getFloat(source);
+        return readLong(accessor, source);
+    }
+
+    private static int shape(Object converter) {
+        if (converter instanceof IntConverter) return INT_TO_INT;
+        if (converter instanceof LongConverter) return LONG_TO_LONG;
+        if (converter instanceof DoubleConverter) return DOUBLE_TO_DOUBLE;
+        if (converter instanceof IntToObjectConverter) return INT_TO_OBJECT;
+        if (converter instanceof LongToObjectConverter) return LONG_TO_OBJECT;
+        if (converter instanceof DoubleToObjectConverter) return DOUBLE_TO_OBJECT;
+        if (converter instanceof ToIntConverter) return OBJECT_TO_INT;
+        if (converter instanceof ToLongConverter) return OBJECT_TO_LONG;
+        if (converter instanceof ToDoubleConverter) return OBJECT_TO_DOUBLE;
+        return -1;
+    }
+
+    /**
+     * Verifica se o campo fonte (primitivo ou wrapper) cabe na entrada do
+     * conversor por conversão de alargamento
+     */
+    private static boolean widens(Class<?> sourceType, Class<?> input) {
+        Class<?> boxed = GenericTypes.boxed(sourceType);
+        if (!NumericConverter.supports(sourceType) || boxed == Boolean.class) {
+            return false;
+        }
+        if (input == double.class) {
+            return true;
+        }
+        if (NumericConverter.isFloating(sourceType)) {
+            return false;
+        }
+        return input == long.class || boxed != Long.class;
+    }
+}
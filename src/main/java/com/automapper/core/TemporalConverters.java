@@ -0,0 +1,510 @@
+package com.automapper.core;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Conversores entre String e tipos temporais (LocalDate, LocalDateTime,
+ * Instant, OffsetDateTime e java.util.Date). Os formatos de largura fixa mais
+ * comuns (dd/MM/yyyy e ISO-8601) são lidos e escritos à mão, sem
+ * DateTimeFormatter, e o formato da entrada é detectado pelos separadores
+ * antes da leitura, em vez de tentar um formato e capturar a exceção.
+ */
+final class TemporalConverters {
+    static final String DATE_PATTERN = "dd/MM/yyyy";
+    static final String DATE_TIME_PATTERN = "dd/MM/yyyy HH:mm:ss";
+    private static final String ISO_DATE_PATTERN = "yyyy-MM-dd";
+    private static final String ISO_DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
+    private static final int LOCAL_DATE = 0;
+    private static final int LOCAL_DATE_TIME = 1;
+    private static final int INSTANT = 2;
+    private static final int OFFSET_DATE_TIME = 3;
+    private static final int DATE = 4;
+
+    // Formatos de largura fixa escritos à mão
+    private static final int BR_DATE = 0;
+    private static final int BR_DATE_TIME = 1;
+    private static final int ISO_DATE = 2;
+    private static final int ISO_DATE_TIME = 3;
+    private static final int ISO_OFFSET = 4;
+    private static final int PATTERN = 5;
+
+    private static final Format AUTO_DETECT = new Format(-1, null);
+    private static final Format DEFAULT_DATE = fixed(BR_DATE, DATE_PATTERN);
+    private static final Format DEFAULT_DATE_TIME = fixed(BR_DATE_TIME, DATE_TIME_PATTERN);
+    private static final Format DEFAULT_OFFSET = new Format(ISO_OFFSET, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+
+    private TemporalConverters() {
+    }
+
+    /**
+     * Verifica se o tipo é um dos tipos temporais tratados como valores simples
+     */
+    static boolean isTemporal(Class<?> type) {
+        return kind(type) >= 0 || Date.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Valida na configuração o tipo e o padrão informados para um mapper
+     */
+    static void validatePattern(Class<?> type, String pattern) {
+        if (kind(type) < 0) {
+            throw new IllegalArgumentException("Unsupported temporal type: " + type.getName());
+        }
+        DateTimeFormatter.ofPattern(pattern);
+    }
+
+    /**
+     * Escolhe o conversor temporal para o par de tipos, ou null se o par não
+     * envolver tipos temporais. O padrão configurado para o tipo temporal
+     * substitui o padrão e a detecção automática de formato.
+     */
+    static ValueConverter resolve(Class<?> sourceType, Class<?> targetType, Map<Class<?>, String> patterns) {
+        int source = Date.class.isAssignableFrom(sourceType) ? DATE : kind(sourceType);
+        int target = kind(targetType);
+
+        if (sourceType == String.class && target >= 0) {
+            String pattern = patterns.get(targetType);
+            Format format = pattern != null ? pattern(pattern, target) : AUTO_DETECT;
+            return (value, context) -> parse((String) value, target, format);
+        }
+
+        if (source >= 0 && targetType == String.class) {
+            String pattern = patterns.get(source == DATE ? Date.class : sourceType);
+            Format format = pattern != null ? pattern(pattern, source) : defaultFormat(source);
+            return (value, context) -> format(value, source, format);
+        }
+
+        if (source < 0 || target < 0) {
+            return null;
+        }
+        if (source == DATE && target == INSTANT) {
+            return (value, context) -> Instant.ofEpochMilli(((Date) value).getTime());
+        }
+        if (source == INSTANT && target == DATE) {
+            return (value, context) -> new Date(((Instant) value).toEpochMilli());
+        }
+        if (source == OFFSET_DATE_TIME && target == INSTANT) {
+            return (value, context) -> ((OffsetDateTime) value).toInstant();
+        }
+        if (source == OFFSET_DATE_TIME && target == DATE) {
+            return (value, context) -> new Date(((OffsetDateTime) value).toInstant().toEpochMilli());
+        }
+        if (source == INSTANT && target == OFFSET_DATE_TIME) {
+            return (value, context) -> ((Instant) value).atOffset(ZoneOffset.UTC);
+        }
+        if (source == DATE && target == OFFSET_DATE_TIME) {
+            return (value, context) -> Instant.ofEpochMilli(((Date) value).getTime()).atOffset(ZoneOffset.UTC);
+        }
+        if (source == LOCAL_DATE && target == LOCAL_DATE_TIME) {
+            return (value, context) -> ((LocalDate) value).atStartOfDay();
+        }
+        if (source == LOCAL_DATE_TIME && target == LOCAL_DATE) {
+            return (value, context) -> ((LocalDateTime) value).toLocalDate();
+        }
+        return null;
+    }
+
+    private static int kind(Class<?> type) {
+        if (type == LocalDate.class) return LOCAL_DATE;
+        if (type == LocalDateTime.class) return LOCAL_DATE_TIME;
+        if (type == Instant.class) return INSTANT;
+        if (type == OffsetDateTime.class) return OFFSET_DATE_TIME;
+        if (type == Date.class) return DATE;
+        return -1;
+    }
+
+    private static Format defaultFormat(int type) {
+        if (type == LOCAL_DATE) return DEFAULT_DATE;
+        if (type == LOCAL_DATE_TIME) return DEFAULT_DATE_TIME;
+        return DEFAULT_OFFSET;
+    }
+
+    /**
+     * Usa o caminho escrito à mão quando o padrão é um dos formatos fixos
+     */
+    private static Format pattern(String pattern, int type) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+        if (type == INSTANT || type == DATE) {
+            // Instantes não têm fuso: são formatados e lidos em UTC
+            formatter = formatter.withZone(ZoneOffset.UTC);
+        }
+
+        // Layouts fixos só valem para tipos locais; datas com hora, só para LocalDateTime
+        if (type == LOCAL_DATE || type == LOCAL_DATE_TIME) {
+            switch (pattern) {
+                case DATE_PATTERN:
+                    return new Format(BR_DATE, formatter);
+                case ISO_DATE_PATTERN:
+                    return new Format(ISO_DATE, formatter);
+                case DATE_TIME_PATTERN:
+                    return new Format(type == LOCAL_DATE_TIME ? BR_DATE_TIME : PATTERN, formatter);
+                case ISO_DATE_TIME_PATTERN:
+                    return new Format(type == LOCAL_DATE_TIME ? ISO_DATE_TIME : PATTERN, formatter);
+                default:
+                    break;
+            }
+        }
+        return new Format(PATTERN, formatter);
+    }
+
+    private static Format fixed(int layout, String pattern) {
+        return new Format(layout, DateTimeFormatter.ofPattern(pattern));
+    }
+
+    private static Object parse(String text, int target, Format format) {
+        if (format.layout == PATTERN) {
+            return parseWith(text, target, format.formatter);
+        }
+
+        int length = text.length();
+        boolean brazilian = length >= 10 && text.charAt(2) == '/' && text.charAt(5) == '/';
+        boolean iso = length >= 10 && text.charAt(4) == '-' && text.charAt(7) == '-';
+        if (format != AUTO_DETECT) {
+            // Formato fixo configurado: só aceita o próprio layout
+            boolean expectsBrazilian = format.layout == BR_DATE || format.layout == BR_DATE_TIME;
+            brazilian &= expectsBrazilian;
+            iso &= !expectsBrazilian;
+        }
+
+        int year;
+        int month;
+        int day;
+        if (brazilian) {
+            day = digits(text, 0, 2);
+            month = digits(text, 3, 2);
+            year = digits(text, 6, 4);
+        } else if (iso) {
+            year = digits(text, 0, 4);
+            month = digits(text, 5, 2);
+            day = digits(text, 8, 2);
+        } else {
+            throw invalid(text, target, null);
+        }
+
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+        int offset = 0;
+        boolean hasTime = false;
+        boolean hasOffset = false;
+        int index = 10;
+
+        if (index < length && (text.charAt(index) == 'T' || text.charAt(index) == ' ')) {
+            if (length < 16 || text.charAt(13) != ':') {
+                throw invalid(text, target, null);
+            }
+            hasTime = true;
+            hour = digits(text, 11, 2);
+            minute = digits(text, 14, 2);
+            index = 16;
+
+            if (index < length && text.charAt(index) == ':') {
+                second = length >= 19 ? digits(text, 17, 2) : -1;
+                index = 19;
+
+                if (index < length && (text.charAt(index) == '.' || text.charAt(index) == ',')) {
+                    int start = ++index;
+                    while (index < length && index - start < 9 && Character.isDigit(text.charAt(index))) {
+                        nano = nano * 10 + (text.charAt(index++) - '0');
+                    }
+                    if (index == start) {
+                        throw invalid(text, target, null);
+                    }
+                    for (int digits = index - start; digits < 9; digits++) {
+                        nano *= 10;
+                    }
+                }
+            }
+        }
+
+        if (index < length && !brazilian && hasTime) {
+            char sign = text.charAt(index);
+            if (sign == 'Z') {
+                hasOffset = true;
+                index++;
+            } else if ((sign == '+' || sign == '-') && index + 3 <= length) {
+                int hours = digits(text, index + 1, 2);
+                int minutes = 0;
+                index += 3;
+                if (index + 3 <= length && text.charAt(index) == ':') {
+                    minutes = digits(text, index + 1, 2);
+                    index += 3;
+                }
+                if (hours < 0 || minutes < 0 || minutes > 59) {
+                    throw invalid(text, target, null);
+                }
+                hasOffset = true;
+                offset = (sign == '-' ? -1 : 1) * (hours * 3600 + minutes * 60);
+            }
+        }
+
+        if (index != length || year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0
+                || (hasTime && target == LOCAL_DATE) || (hasOffset && target <= LOCAL_DATE_TIME)) {
+            throw invalid(text, target, null);
+        }
+
+        try {
+            if (brazilian) {
+                // Mesmo resultado do DateTimeFormatter em modo SMART: o dia é
+                // ajustado ao último dia válido do mês
+                if (year == 0) {
+                    throw new DateTimeException("Invalid value for YearOfEra: 0");
+                }
+                if (day > 28 && day <= 31 && month >= 1 && month <= 12) {
+                    day = Math.min(day, YearMonth.of(year, month).lengthOfMonth());
+                }
+            }
+            return build(target, year, month, day, hour, minute, second, nano, offset);
+        } catch (DateTimeException e) {
+            throw invalid(text, target, e);
+        }
+    }
+
+    /**
+     * Monta o tipo de destino; sem offset na entrada, instantes são lidos em UTC
+     */
+    private static Object build(int target, int year, int month, int day, int hour, int minute, int second,
+                                int nano, int offset) {
+        if (target == LOCAL_DATE) {
+            return LocalDate.of(year, month, day);
+        }
+        if (target == LOCAL_DATE_TIME) {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        }
+        if (target == OFFSET_DATE_TIME) {
+            return OffsetDateTime.of(year, month, day, hour, minute, second, nano,
+                ZoneOffset.ofTotalSeconds(offset));
+        }
+
+        // LocalTime e ZoneOffset validam os campos como o caminho do DateTimeFormatter
+        ZoneOffset.ofTotalSeconds(offset);
+        long epochSecond = LocalDate.of(year, month, day).toEpochDay() * 86400L
+            + LocalTime.of(hour, minute, second).toSecondOfDay() - offset;
+        if (target == INSTANT) {
+            return Instant.ofEpochSecond(epochSecond, nano);
+        }
+        return new Date(epochSecond * 1000L + nano / 1_000_000);
+    }
+
+    private static Object parseWith(String text, int target, DateTimeFormatter formatter) {
+        try {
+            if (target == LOCAL_DATE) {
+                return LocalDate.parse(text, formatter);
+            }
+            if (target == LOCAL_DATE_TIME) {
+                return LocalDateTime.parse(text, formatter);
+            }
+            if (target == OFFSET_DATE_TIME) {
+                return OffsetDateTime.parse(text, formatter);
+            }
+            Instant instant = formatter.parse(text, Instant::from);
+            return target == INSTANT ? instant : new Date(instant.toEpochMilli());
+        } catch (DateTimeException e) {
+            throw invalid(text, target, e);
+        }
+    }
+
+    /**
+     * Lê um inteiro de largura fixa, ou -1 se houver caractere não numérico
+     */
+    private static int digits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static RuntimeException invalid(String text, int target, Exception cause) {
+        String type = target == LOCAL_DATE ? "LocalDate"
+            : target == LOCAL_DATE_TIME ? "LocalDateTime"
+            : target == INSTANT ? "Instant"
+            : target == OFFSET_DATE_TIME ? "OffsetDateTime" : "Date";
+        return new RuntimeException("Cannot convert string '" + text + "' to " + type, cause);
+    }
+
+    private static String format(Object value, int source, Format format) {
+        if (source == LOCAL_DATE) {
+            LocalDate date = (LocalDate) value;
+            if (format.layout == PATTERN || !fits(date.getYear(), format.layout)) {
+                return format.formatter.format(date);
+            }
+            char[] buffer = new char[10];
+            writeDate(buffer, format.layout, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+            return new String(buffer);
+        }
+
+        if (source == LOCAL_DATE_TIME) {
+            LocalDateTime dateTime = (LocalDateTime) value;
+            if (format.layout == PATTERN || !fits(dateTime.getYear(), format.layout)) {
+                return format.formatter.format(dateTime);
+            }
+            boolean withTime = format.layout == BR_DATE_TIME || format.layout == ISO_DATE_TIME;
+            char[] buffer = new char[withTime ? 19 : 10];
+            writeDate(buffer, format.layout, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+            if (withTime) {
+                writeTime(buffer, format.layout, dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
+            }
+            return new String(buffer);
+        }
+
+        if (source == OFFSET_DATE_TIME) {
+            OffsetDateTime dateTime = (OffsetDateTime) value;
+            if (format.layout != ISO_OFFSET || !fits(dateTime.getYear(), ISO_OFFSET)) {
+                return format.formatter.format(dateTime);
+            }
+            return formatOffset(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(),
+                dateTime.getOffset().getTotalSeconds(), false);
+        }
+
+        long epochSecond;
+        int nano;
+        if (source == INSTANT) {
+            epochSecond = ((Instant) value).getEpochSecond();
+            nano = ((Instant) value).getNano();
+        } else {
+            long millis = ((Date) value).getTime();
+            epochSecond = Math.floorDiv(millis, 1000L);
+            nano = (int) Math.floorMod(millis, 1000L) * 1_000_000;
+        }
+        if (format.layout != ISO_OFFSET) {
+            return format.formatter.format(Instant.ofEpochSecond(epochSecond, nano));
+        }
+
+        // Data civil a partir do dia epoch (algoritmo de H. Hinnant), sem alocar
+        long epochDay = Math.floorDiv(epochSecond, 86400L);
+        int secondOfDay = (int) Math.floorMod(epochSecond, 86400L);
+        long shifted = epochDay + 719468;
+        long era = Math.floorDiv(shifted, 146097L);
+        long dayOfEra = shifted - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > 9999) {
+            return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(epochSecond, nano));
+        }
+        return formatOffset((int) year, month, day, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60,
+            nano, 0, true);
+    }
+
+    private static boolean fits(int year, int layout) {
+        // dd/MM/yyyy usa o ano da era, que não tem ano zero
+        return year <= 9999 && year >= (layout == BR_DATE || layout == BR_DATE_TIME ? 1 : 0);
+    }
+
+    /**
+     * ISO-8601 com offset; a fração é escrita em grupos de 3, 6 ou 9 dígitos
+     * como em ISO_INSTANT, ou sem zeros à direita como em ISO_OFFSET_DATE_TIME
+     */
+    private static String formatOffset(int year, int month, int day, int hour, int minute, int second, int nano,
+                                       int offset, boolean grouped) {
+        int fraction = 9;
+        if (nano == 0) {
+            fraction = 0;
+        } else if (grouped) {
+            fraction = nano % 1_000_000 == 0 ? 3 : nano % 1000 == 0 ? 6 : 9;
+        } else {
+            for (int value = nano; value % 10 == 0; value /= 10) {
+                fraction--;
+            }
+        }
+        int offsetLength = offset == 0 ? 1 : offset % 60 == 0 ? 6 : 9;
+        char[] buffer = new char[19 + (fraction == 0 ? 0 : fraction + 1) + offsetLength];
+
+        writeDate(buffer, ISO_DATE_TIME, year, month, day);
+        writeTime(buffer, ISO_DATE_TIME, hour, minute, second);
+
+        int index = 19;
+        if (fraction > 0) {
+            buffer[index++] = '.';
+            int value = nano;
+            for (int digit = 9; digit > fraction; digit--) {
+                value /= 10;
+            }
+            writeDigits(buffer, index, fraction, value);
+            index += fraction;
+        }
+
+        if (offset == 0) {
+            buffer[index] = 'Z';
+        } else {
+            int absolute = Math.abs(offset);
+            buffer[index] = offset < 0 ? '-' : '+';
+            writeDigits(buffer, index + 1, 2, absolute / 3600);
+            buffer[index + 3] = ':';
+            writeDigits(buffer, index + 4, 2, absolute / 60 % 60);
+            if (offsetLength == 9) {
+                buffer[index + 6] = ':';
+                writeDigits(buffer, index + 7, 2, absolute % 60);
+            }
+        }
+        return new String(buffer);
+    }
+
+    private static void writeDate(char[] buffer, int layout, int year, int month, int day) {
+        if (layout == BR_DATE || layout == BR_DATE_TIME) {
+            writeDigits(buffer, 0, 2, day);
+            buffer[2] = '/';
+            writeDigits(buffer, 3, 2, month);
+            buffer[5] = '/';
+            writeDigits(buffer, 6, 4, year);
+        } else {
+            writeDigits(buffer, 0, 4, year);
+            buffer[4] = '-';
+            writeDigits(buffer, 5, 2, month);
+            buffer[7] = '-';
+            writeDigits(buffer, 8, 2, day);
+        }
+    }
+
+    private static void writeTime(char[] buffer, int layout, int hour, int minute, int second) {
+        buffer[10] = layout == BR_DATE_TIME ? ' ' : 'T';
+        writeDigits(buffer, 11, 2, hour);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, 2, minute);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, 2, second);
+    }
+
+    private static void writeDigits(char[] buffer, int start, int count, int value) {
+        for (int i = start + count - 1; i >= start; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Layout fixo escrito à mão, com o formatter equivalente para os casos
+     * fora da faixa de anos de quatro dígitos
+     */
+    private static final class Format {
+        private final int layout;
+        private final DateTimeFormatter formatter;
+
+        Format(int layout, DateTimeFormatter formatter) {
+            this.layout = layout;
+            this.formatter = formatter;
+        }
+    }
+}
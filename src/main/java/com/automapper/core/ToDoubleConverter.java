@@ -0,0 +1,14 @@
+package com.automapper.core;
+
+/**
+ * Conversor de objeto para double, que escreve o campo primitivo sem boxing
+ */
+@FunctionalInterface
+public interface ToDoubleConverter<T> extends TypeConverter<T, Double> {
+    double toDouble(T value);
+
+    @Override
+    default Double apply(T value) {
+        return toDouble(value);
+    }
+}
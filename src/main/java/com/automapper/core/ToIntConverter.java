@@ -0,0 +1,14 @@
+package com.automapper.core;
+
+/**
+ * Conversor de objeto para int, que escreve o campo primitivo sem boxing
+ */
+@FunctionalInterface
+public interface ToIntConverter<T> extends TypeConverter<T, Integer> {
+    int toInt(T value);
+
+    @Override
+    default Integer apply(T value) {
+        return toInt(value);
+    }
+}
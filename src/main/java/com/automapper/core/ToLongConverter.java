@@ -0,0 +1,14 @@
+package com.automapper.core;
+
+/**
+ * Conversor de objeto para long, que escreve o campo primitivo sem boxing
+ */
+@FunctionalInterface
+public interface ToLongConverter<T> extends TypeConverter<T, Long> {
+    long toLong(T value);
+
+    @Override
+    default Long apply(T value) {
+        return toLong(value);
+    }
+}
@@ -0,0 +1,123 @@
+package com.automapper.core;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Comparação de valores usada pelo mapeamento incremental. Valores imutáveis
+ * são comparados por equals; objetos, coleções, mapas e arrays são
+ * comparados recursivamente, campo a campo e elemento a elemento. Um valor
+ * mutável que é a mesma referência nos dois lados nunca é considerado
+ * inalterado, pois uma alteração feita no lugar não pode ser detectada.
+ */
+final class ValueComparison {
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+        String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+        Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class, Class.class));
+
+    private ValueComparison() {
+    }
+
+    /**
+     * Verifica se o valor atual é comprovadamente igual ao anterior
+     */
+    static boolean unchanged(Object previous, Object current) {
+        return unchanged(previous, current, new IdentityHashMap<>());
+    }
+
+    private static boolean unchanged(Object previous, Object current, Map<Object, Object> visited) {
+        if (previous == current) {
+            return previous == null || isImmutable(previous.getClass());
+        }
+        if (previous == null || current == null || previous.getClass() != current.getClass()) {
+            return false;
+        }
+
+        Class<?> type = previous.getClass();
+        if (isImmutable(type)) {
+            return previous.equals(current);
+        }
+
+        // Referências cíclicas: o par já em comparação é tratado como igual
+        if (visited.get(previous) == current) {
+            return true;
+        }
+        visited.put(previous, current);
+
+        if (type.isArray()) {
+            int length = Array.getLength(previous);
+            if (length != Array.getLength(current)) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (!unchanged(Array.get(previous, i), Array.get(current, i), visited)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (previous instanceof Collection) {
+            Collection<?> before = (Collection<?>) previous;
+            Collection<?> after = (Collection<?>) current;
+            if (before.size() != after.size()) {
+                return false;
+            }
+            Iterator<?> elements = after.iterator();
+            for (Object element : before) {
+                if (!unchanged(element, elements.next(), visited)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (previous instanceof Map) {
+            Map<?, ?> before = (Map<?, ?>) previous;
+            Map<?, ?> after = (Map<?, ?>) current;
+            if (before.size() != after.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : before.entrySet()) {
+                if (!after.containsKey(entry.getKey()) 
+                        || !unchanged(entry.getValue(), after.get(entry.getKey()), visited)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (previous instanceof Optional) {
+            return unchanged(((Optional<?>) previous).orElse(null), ((Optional<?>) current).orElse(null), visited);
+        }
+
+        ClassMetadata metadata = ClassMetadata.of(type);
+        for (Field field : metadata.getFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            FieldAccessor accessor = metadata.accessor(field);
+            if (!unchanged(accessor.get(previous), accessor.get(current), visited)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return IMMUTABLE_TYPES.contains(type) || type.isEnum() 
+            || (type.getName().startsWith("java.time.") && !type.isInterface());
+    }
+}
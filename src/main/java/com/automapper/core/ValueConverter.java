@@ -0,0 +1,14 @@
+package com.automapper.core;
+
+/**
+ * Conversão de valor já resolvida para uma propriedade do plano de mapeamento
+ */
+@FunctionalInterface
+interface ValueConverter {
+    ValueConverter IDENTITY = (value, context) -> value;
+
+    /**
+     * Converte um valor não nulo; o contexto só existe no modo de grafo
+     */
+    Object convert(Object value, MappingContext context);
+}
@@ -0,0 +1,104 @@
+package com.automapper.core;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * Acessor de campo baseado em VarHandle, sem boxing nos caminhos primitivos
+ */
+final class VarHandleFieldAccessor implements FieldAccessor {
+    private final VarHandle handle;
+
+    VarHandleFieldAccessor(VarHandle handle) {
+        this.handle = handle;
+    }
+
+    @Override
+    public Object get(Object instance) {
+        return handle.get(instance);
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+        handle.set(instance, value);
+    }
+
+    @Override
+    public boolean getBoolean(Object instance) {
+        return (boolean) handle.get(instance);
+    }
+
+    @Override
+    public void setBoolean(Object instance, boolean value) {
+        handle.set(instance, value);
+    }
+
+    @Override
+    public byte getByte(Object instance) {
+        return (byte) handle.get(instance);
+    }
+
+    @Override
+    public void setByte(Object instance, byte value) {
+        handle.set(instance, value);
+    }
+
+    @Override
+    public char getChar(Object instance) {
+        return (char) handle.get(instance);
+    }
+
+    @Override
+    public void setChar(Object instance, char value) {
+        handle.set(instance, value);
+    }
+
+    @Override
+    public short getShort(Object instance) {
+        return (short) handle.get(instance);
+    }
+
+    @Override
+    public void setShort(Object instance, short value) {
+        handle.set(instance, value);
+    }
+
+    @Override
+    public int getInt(Object instance) {
+        return (int) handle.get(instance);
+    }
+
+    @Override
+    public void setInt(Object instance, int value) {
+        handle.set(instance, value);
+    }
+
+    @Override
+    public long getLong(Object instance) {
+        return (long) handle.get(instance);
+    }
+
+    @Override
+    public void setLong(Object instance, long value) {
+        handle.set(instance, value);
+    }
+
+    @Override
+    public float getFloat(Object instance) {
+        return (float) handle.get(instance);
+    }
+
+    @Override
+    public void setFloat(Object instance, float value) {
+        handle.set(instance, value);
+    }
+
+    @Override
+    public double getDouble(Object instance) {
+        return (double) handle.get(instance);
+    }
+
+    @Override
+    public void setDouble(Object instance, double value) {
+        handle.set(instance, value);
+    }
+}
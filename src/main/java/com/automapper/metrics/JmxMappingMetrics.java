@@ -0,0 +1,129 @@
+package com.automapper.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Métricas por par de tipos publicadas como MXBeans, um por par, com o nome
+ * com.automapper:type=Mapper,source=...,target=... . O MXBean é registrado
+ * quando o plano do par é construído, nunca durante o mapeamento; a consulta
+ * das métricas do par nos eventos não trava nem aloca.
+ */
+public final class JmxMappingMetrics implements MappingMetrics {
+    public static final String DOMAIN = "com.automapper";
+
+    private final MBeanServer server;
+    private final Map<ObjectName, MapperStats> registered = new ConcurrentHashMap<>();
+    private final ClassValue<ClassValue<MapperStats>> stats =
+        new ClassValue<ClassValue<MapperStats>>() {
+            @Override
+            protected ClassValue<MapperStats> computeValue(Class<?> sourceType) {
+                return new ClassValue<MapperStats>() {
+                    @Override
+                    protected MapperStats computeValue(Class<?> targetType) {
+                        return new MapperStats(sourceType, targetType);
+                    }
+                };
+            }
+        };
+
+    /**
+     * Publica as métricas no MBeanServer da plataforma
+     */
+    public JmxMappingMetrics() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public JmxMappingMetrics(MBeanServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Métricas do par de tipos, registrando o MXBean se ainda não existir
+     */
+    public MapperStats stats(Class<?> sourceType, Class<?> targetType) {
+        MapperStats mapperStats = stats.get(sourceType).get(targetType);
+        if (!mapperStats.published) {
+            publish(mapperStats);
+        }
+        return mapperStats;
+    }
+
+    /**
+     * Remove do MBeanServer todos os MXBeans registrados por esta instância;
+     * a próxima construção de plano do par ou chamada a stats volta a
+     * registrá-lo
+     */
+    public synchronized void unregister() {
+        for (Map.Entry<ObjectName, MapperStats> entry : registered.entrySet()) {
+            try {
+                if (server.isRegistered(entry.getKey())) {
+                    server.unregisterMBean(entry.getKey());
+                }
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot unregister MBean " + entry.getKey(), e);
+            }
+            entry.getValue().published = false;
+            registered.remove(entry.getKey());
+        }
+    }
+
+    @Override
+    public void register(Class<?> sourceType, Class<?> targetType) {
+        stats(sourceType, targetType);
+    }
+
+    @Override
+    public void mapCompleted(Class<?> sourceType, Class<?> targetType, long nanos) {
+        stats.get(sourceType).get(targetType).mapCompleted(nanos);
+    }
+
+    @Override
+    public void mapFailed(Class<?> sourceType, Class<?> targetType, Throwable cause) {
+        stats.get(sourceType).get(targetType).mapFailed(cause);
+    }
+
+    @Override
+    public void nestedDepth(Class<?> sourceType, Class<?> targetType, int depth) {
+        stats.get(sourceType).get(targetType).nestedDepth(depth);
+    }
+
+    @Override
+    public void converterInvoked(Class<?> sourceType, Class<?> targetType, String field, long nanos) {
+        stats.get(sourceType).get(targetType).converterInvoked(field, nanos);
+    }
+
+    @Override
+    public void planBuilt(Class<?> sourceType, Class<?> targetType, long nanos) {
+        stats.get(sourceType).get(targetType).planBuilt(nanos);
+    }
+
+    /**
+     * Registra o MXBean do par uma única vez; o ClassValue pode calcular o
+     * valor em mais de uma thread, mas só a instância retida é publicada
+     */
+    private synchronized void publish(MapperStats mapperStats) {
+        if (mapperStats.published) {
+            return;
+        }
+
+        try {
+            ObjectName name = new ObjectName(DOMAIN + ":type=Mapper,source=" + mapperStats.getSourceType() + 
+                                             ",target=" + mapperStats.getTargetType());
+            // Substitui o MXBean de uma instância anterior com o mesmo par
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(mapperStats, name);
+            registered.put(name, mapperStats);
+            mapperStats.published = true;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics MBean for " + 
+                mapperStats.getSourceType() + " -> " + mapperStats.getTargetType(), e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.automapper.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de durações em nanossegundos com faixas em potências de dois
+ * (a faixa i conta durações menores que 2^i). Cada faixa é um LongAdder, de
+ * modo que threads registrando ao mesmo tempo não disputam o mesmo contador;
+ * os percentis são aproximados pelo limite superior da faixa.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registra uma duração; valores negativos contam como zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        buckets[BUCKETS - Long.numberOfLeadingZeros(value)].increment();
+        count.increment();
+        totalNanos.add(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public double getMeanNanos() {
+        long samples = count.sum();
+        return samples == 0 ? 0.0 : (double) totalNanos.sum() / samples;
+    }
+
+    /**
+     * Limite superior aproximado da duração no percentil informado (0 a 100)
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+
+        long[] counts = getBucketCounts();
+        long samples = 0;
+        for (long bucket : counts) {
+            samples += bucket;
+        }
+        if (samples == 0) {
+            return 0L;
+        }
+
+        long rank = (long) Math.ceil(samples * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) {
+                return (1L << i) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Contagem de cada faixa; a faixa i cobre as durações de 2^(i-1) até 2^i - 1
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+    }
+}
@@ -0,0 +1,164 @@
+package com.automapper.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores e histogramas de um par de tipos, atualizados sem bloqueio
+ * pelas threads que mapeiam
+ */
+public final class MapperStats implements MapperStatsMXBean {
+    private final Class<?> sourceType;
+    private final Class<?> targetType;
+    private final LatencyHistogram mapLatency = new LatencyHistogram();
+    private final LatencyHistogram planBuilds = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+    private final Map<String, LongAdder> failuresByCause = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> nestedDepths = new ConcurrentHashMap<>();
+    private final LongAccumulator maxNestedDepth = new LongAccumulator(Math::max, 0L);
+    private final Map<String, LatencyHistogram> converters = new ConcurrentHashMap<>();
+    volatile boolean published;
+
+    MapperStats(Class<?> sourceType, Class<?> targetType) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+    }
+
+    void mapCompleted(long nanos) {
+        mapLatency.record(nanos);
+    }
+
+    void mapFailed(Throwable cause) {
+        failures.increment();
+        failuresByCause.computeIfAbsent(cause.getClass().getName(), key -> new LongAdder()).increment();
+    }
+
+    void nestedDepth(int depth) {
+        nestedDepths.computeIfAbsent(depth, key -> new LongAdder()).increment();
+        maxNestedDepth.accumulate(depth);
+    }
+
+    void converterInvoked(String field, long nanos) {
+        LatencyHistogram histogram = converters.get(field);
+        if (histogram == null) {
+            histogram = converters.computeIfAbsent(field, key -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    void planBuilt(long nanos) {
+        planBuilds.record(nanos);
+    }
+
+    /**
+     * Histograma das durações das chamadas de mapeamento concluídas
+     */
+    public LatencyHistogram getMapLatency() {
+        return mapLatency;
+    }
+
+    /**
+     * Histograma das durações do conversor customizado do campo, ou null se
+     * ele ainda não foi chamado
+     */
+    public LatencyHistogram getConverterLatency(String field) {
+        return converters.get(field);
+    }
+
+    @Override
+    public String getSourceType() {
+        return sourceType.getName();
+    }
+
+    @Override
+    public String getTargetType() {
+        return targetType.getName();
+    }
+
+    @Override
+    public long getMapCount() {
+        return mapLatency.getCount();
+    }
+
+    @Override
+    public long getMapTotalNanos() {
+        return mapLatency.getTotalNanos();
+    }
+
+    @Override
+    public double getMapMeanNanos() {
+        return mapLatency.getMeanNanos();
+    }
+
+    @Override
+    public long getMapP50Nanos() {
+        return mapLatency.getPercentileNanos(50.0);
+    }
+
+    @Override
+    public long getMapP99Nanos() {
+        return mapLatency.getPercentileNanos(99.0);
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public Map<String, Long> getFailuresByCause() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        failuresByCause.forEach((cause, count) -> snapshot.put(cause, count.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public int getMaxNestedDepth() {
+        return (int) maxNestedDepth.get();
+    }
+
+    @Override
+    public Map<Integer, Long> getNestedDepthCounts() {
+        Map<Integer, Long> snapshot = new TreeMap<>();
+        nestedDepths.forEach((depth, count) -> snapshot.put(depth, count.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public Map<String, Long> getConverterCallsByField() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        converters.forEach((field, histogram) -> snapshot.put(field, histogram.getCount()));
+        return snapshot;
+    }
+
+    @Override
+    public Map<String, Long> getConverterNanosByField() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        converters.forEach((field, histogram) -> snapshot.put(field, histogram.getTotalNanos()));
+        return snapshot;
+    }
+
+    @Override
+    public long getPlanBuildCount() {
+        return planBuilds.getCount();
+    }
+
+    @Override
+    public long getPlanBuildTotalNanos() {
+        return planBuilds.getTotalNanos();
+    }
+
+    @Override
+    public void reset() {
+        mapLatency.reset();
+        planBuilds.reset();
+        failures.reset();
+        failuresByCause.clear();
+        nestedDepths.clear();
+        maxNestedDepth.reset();
+        converters.clear();
+    }
+}
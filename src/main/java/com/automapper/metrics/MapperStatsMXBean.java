@@ -0,0 +1,56 @@
+package com.automapper.metrics;
+
+import java.util.Map;
+
+/**
+ * Métricas de um par de tipos expostas via JMX; durações em nanossegundos
+ */
+public interface MapperStatsMXBean {
+
+    String getSourceType();
+
+    String getTargetType();
+
+    long getMapCount();
+
+    long getMapTotalNanos();
+
+    double getMapMeanNanos();
+
+    long getMapP50Nanos();
+
+    long getMapP99Nanos();
+
+    long getFailureCount();
+
+    /**
+     * Falhas agrupadas pela classe da causa raiz
+     */
+    Map<String, Long> getFailuresByCause();
+
+    int getMaxNestedDepth();
+
+    /**
+     * Chamadas de nível superior por profundidade de aninhamento atingida
+     */
+    Map<Integer, Long> getNestedDepthCounts();
+
+    /**
+     * Chamadas dos conversores customizados por campo fonte
+     */
+    Map<String, Long> getConverterCallsByField();
+
+    /**
+     * Tempo total gasto nos conversores customizados por campo fonte
+     */
+    Map<String, Long> getConverterNanosByField();
+
+    long getPlanBuildCount();
+
+    long getPlanBuildTotalNanos();
+
+    /**
+     * Zera todas as métricas do par
+     */
+    void reset();
+}
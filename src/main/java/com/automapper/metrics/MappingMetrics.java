@@ -0,0 +1,60 @@
+package com.automapper.metrics;
+
+/**
+ * SPI de métricas do mapeamento. A implementação instalada no MetricsRegistry
+ * (ou registrada via ServiceLoader) é capturada na construção de cada plano;
+ * com a implementação NOOP os planos não são instrumentados e o mapeamento
+ * não mede nada. Os métodos são chamados em paralelo pelas threads que
+ * mapeiam e devem ser baratos e seguros para concorrência.
+ */
+public interface MappingMetrics {
+
+    /**
+     * Implementação padrão, que desativa a instrumentação
+     */
+    MappingMetrics NOOP = new MappingMetrics() {
+    };
+
+    /**
+     * Chamado na construção de cada plano do par, antes de qualquer evento
+     * dele e fora do caminho do mapeamento; implementações que publicam
+     * recursos por par (como MXBeans) os registram aqui. Se lançar uma
+     * exceção, a falha é registrada em log e o plano não é instrumentado.
+     */
+    default void register(Class<?> sourceType, Class<?> targetType) {
+    }
+
+    /**
+     * Uma chamada de mapeamento do par concluída, com a duração em nanossegundos;
+     * mapeamentos aninhados também são reportados para o seu próprio par
+     */
+    default void mapCompleted(Class<?> sourceType, Class<?> targetType, long nanos) {
+    }
+
+    /**
+     * Uma chamada de mapeamento do par falhou; cause é a causa raiz da falha
+     */
+    default void mapFailed(Class<?> sourceType, Class<?> targetType, Throwable cause) {
+    }
+
+    /**
+     * Profundidade máxima de objetos aninhados atingida por uma chamada de
+     * nível superior do par (1 quando não houve mapeamento aninhado)
+     */
+    default void nestedDepth(Class<?> sourceType, Class<?> targetType, int depth) {
+    }
+
+    /**
+     * Uma chamada do conversor customizado (@UseConverter, conversor de tipo ou
+     * lambda) do campo fonte informado, com a duração em nanossegundos
+     */
+    default void converterInvoked(Class<?> sourceType, Class<?> targetType, String field, long nanos) {
+    }
+
+    /**
+     * Construção de um plano do par (principal, incremental ou de projeção),
+     * com a duração em nanossegundos
+     */
+    default void planBuilt(Class<?> sourceType, Class<?> targetType, long nanos) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.automapper.metrics;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Implementação de métricas em uso. Na inicialização é usada a primeira
+ * implementação registrada via ServiceLoader, ou NOOP se não houver. Os
+ * mappers reconstroem o plano ao perceber uma troca, então a instalação vale
+ * também para mappers já criados.
+ */
+public final class MetricsRegistry {
+    private static volatile MappingMetrics current = discover();
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Implementação atual; os planos guardam a instância usada na sua
+     * construção para detectar trocas posteriores
+     */
+    public static MappingMetrics current() {
+        return current;
+    }
+
+    /**
+     * Instala a implementação de métricas, substituindo a anterior
+     */
+    public static void install(MappingMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Mapping metrics must not be null");
+        }
+        current = metrics;
+    }
+
+    /**
+     * Volta à implementação NOOP, desativando a instrumentação
+     */
+    public static void uninstall() {
+        current = MappingMetrics.NOOP;
+    }
+
+    private static MappingMetrics discover() {
+        Iterator<MappingMetrics> providers = ServiceLoader.load(MappingMetrics.class).iterator();
+        return providers.hasNext() ? providers.next() : MappingMetrics.NOOP;
+    }
+}
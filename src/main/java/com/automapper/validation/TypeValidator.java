@@ -1,172 +1,158 @@
 package com.automapper.validation;
 
+import com.automapper.core.AutoMapper;
+import com.automapper.core.ClassMetadata;
+import com.automapper.core.ConverterRegistry;
 import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
 
 /**
- * Validador de tipos para mapeamento
+ * Validador de tipos para mapeamento. Os campos e anotações de cada classe vêm
+ * do ClassMetadata compartilhado com os mappers, e o resultado da validação de
+ * cada par de tipos fica em cache enquanto o ConverterRegistry não mudar.
  */
 public class TypeValidator {
+
+    private static final ClassValue<ClassValue<AtomicReference<CachedResult>>> results =
+        new ClassValue<ClassValue<AtomicReference<CachedResult>>>() {
+            @Override
+            protected ClassValue<AtomicReference<CachedResult>> computeValue(Class<?> sourceClass) {
+                return new ClassValue<AtomicReference<CachedResult>>() {
+                    @Override
+                    protected AtomicReference<CachedResult> computeValue(Class<?> targetClass) {
+                        return new AtomicReference<>();
+                    }
+                };
+            }
+        };
     
     /**
-     * Valida se o mapeamento entre dois tipos é possível
+     * Valida se o mapeamento entre dois tipos é possível, considerando as
+     * renomeações de @MapTo e os campos marcados com @Ignore. O resultado é
+     * refeito quando o ConverterRegistry muda, já que a compatibilidade dos
+     * campos depende dos conversores registrados.
      */
     public static <TSource, TTarget> ValidationResult validate(Class<TSource> sourceClass, Class<TTarget> targetClass) {
+        Object converters = ConverterRegistry.version();
+        AtomicReference<CachedResult> slot = results.get(sourceClass).get(targetClass);
+        CachedResult cached = slot.get();
+        if (cached == null || cached.converters != converters) {
+            cached = new CachedResult(converters, validateAnnotated(sourceClass, targetClass));
+            slot.set(cached);
+        }
+        return cached.result;
+    }
+
+    /**
+     * Valida o mapeamento com as renomeações (campo fonte -> campo alvo) e os
+     * campos ignorados informados, como os da configuração atual de um mapper.
+     * A compatibilidade de cada par de campos é decidida por convertible, que
+     * segue a resolução de conversores do mapper. Este resultado não entra no
+     * cache.
+     */
+    public static ValidationResult validate(Class<?> sourceClass, Class<?> targetClass,
+                                            Map<String, String> customMappings, Set<String> ignoredFields,
+                                            BiPredicate<Field, Field> convertible) {
         List<String> errors = new ArrayList<>();
         List<String> warnings = new ArrayList<>();
-        
-        Field[] sourceFields = sourceClass.getDeclaredFields();
-        Field[] targetFields = targetClass.getDeclaredFields();
+        ClassMetadata target = ClassMetadata.of(targetClass);
         
         // Verifica se o tipo de destino tem construtor padrão
-        try {
-            targetClass.getDeclaredConstructor();
-        } catch (NoSuchMethodException e) {
+        if (!target.hasDefaultConstructor()) {
             errors.add("Target class " + targetClass.getName() + " must have a default constructor");
         }
         
         // Valida compatibilidade dos campos
-        for (Field sourceField : sourceFields) {
-            Field targetField = findTargetField(sourceField.getName(), targetFields);
+        for (Field sourceField : ClassMetadata.of(sourceClass).getFields()) {
+            if (Modifier.isStatic(sourceField.getModifiers()) || sourceField.isSynthetic()
+                    || ignoredFields.contains(sourceField.getName())) {
+                continue;
+            }
+
+            String targetFieldName = customMappings.getOrDefault(sourceField.getName(), sourceField.getName());
+            Field targetField = target.getField(targetFieldName);
             
             if (targetField != null) {
-                ValidationResult fieldValidation = validateFieldCompatibility(sourceField, targetField);
-                errors.addAll(fieldValidation.getErrors());
-                warnings.addAll(fieldValidation.getWarnings());
+                validateFieldCompatibility(sourceField, targetField, convertible, warnings);
             } else {
                 warnings.add("Source field '" + sourceField.getName() + "' has no corresponding target field");
             }
         }
         
-        return new ValidationResult(errors, warnings);
+        return new ValidationResult(Collections.unmodifiableList(errors), Collections.unmodifiableList(warnings));
     }
-    
-    private static Field findTargetField(String fieldName, Field[] targetFields) {
-        for (Field field : targetFields) {
-            if (field.getName().equals(fieldName)) {
-                return field;
-            }
-        }
-        return null;
+
+    /**
+     * Aplica as mesmas regras de anotação do AutoMapper: @MapTo e @Ignore na
+     * fonte e @MapTo no alvo como mapeamento reverso. Campos com @UseConverter
+     * são verificados na construção do plano.
+     */
+    private static ValidationResult validateAnnotated(Class<?> sourceClass, Class<?> targetClass) {
+        ClassMetadata source = ClassMetadata.of(sourceClass);
+        Map<String, String> customMappings = new HashMap<>(source.getRenames());
+        ClassMetadata.of(targetClass).getRenames().forEach((field, mapTo) -> customMappings.put(mapTo, field));
+        return validate(sourceClass, targetClass, customMappings, source.getIgnoredFields(),
+            (sourceField, targetField) -> source.getConverterTypes().containsKey(sourceField.getName())
+                || AutoMapper.canConvert(sourceField.getGenericType(), targetField.getGenericType()));
     }
     
-    private static ValidationResult validateFieldCompatibility(Field sourceField, Field targetField) {
-        List<String> errors = new ArrayList<>();
-        List<String> warnings = new ArrayList<>();
-        
-        Class<?> sourceType = sourceField.getType();
-        Class<?> targetType = targetField.getType();
+    private static void validateFieldCompatibility(Field sourceField, Field targetField,
+                                                   BiPredicate<Field, Field> convertible, List<String> warnings) {
+        Type sourceType = sourceField.getGenericType();
+        Type targetType = targetField.getGenericType();
         
         // Tipos idênticos - sempre compatíveis
         if (sourceType.equals(targetType)) {
-            return new ValidationResult(errors, warnings);
+            return;
         }
         
-        // Verifica conversões automáticas
-        if (isAutoConvertible(sourceType, targetType)) {
-            return new ValidationResult(errors, warnings);
+        if (!convertible.test(sourceField, targetField)) {
+            warnings.add("Potential incompatible types: " + sourceType.getTypeName() + " -> " + 
+                         targetType.getTypeName());
+            return;
         }
         
-        // Verifica se são tipos de coleção compatíveis
-        if (isCollectionType(sourceType) && isCollectionType(targetType)) {
-            ValidationResult collectionValidation = validateCollectionTypes(sourceField, targetField);
-            errors.addAll(collectionValidation.getErrors());
-            warnings.addAll(collectionValidation.getWarnings());
-            return new ValidationResult(errors, warnings);
+        // Objetos complexos são mapeados recursivamente
+        if (isComplexType(sourceField.getType()) && isComplexType(targetField.getType())) {
+            warnings.add("Complex object mapping from " + sourceField.getType().getName() + " to " + 
+                         targetField.getType().getName() + " will be attempted recursively");
         }
-        
-        // Verifica se são objetos complexos
-        if (!isSimpleType(sourceType) && !isSimpleType(targetType)) {
-            // Objetos complexos podem ser mapeados recursivamente
-            warnings.add("Complex object mapping from " + sourceType.getName() + " to " + targetType.getName() + 
-                        " will be attempted recursively");
-            return new ValidationResult(errors, warnings);
-        }
-        
-        // Tipos incompatíveis
-        warnings.add("Potential incompatible types: " + sourceType.getName() + " -> " + targetType.getName());
-        
-        return new ValidationResult(errors, warnings);
     }
     
-    private static ValidationResult validateCollectionTypes(Field sourceField, Field targetField) {
-        List<String> errors = new ArrayList<>();
-        List<String> warnings = new ArrayList<>();
-        
-        Type sourceGenericType = sourceField.getGenericType();
-        Type targetGenericType = targetField.getGenericType();
-        
-        if (sourceGenericType instanceof ParameterizedType && targetGenericType instanceof ParameterizedType) {
-            ParameterizedType sourceParamType = (ParameterizedType) sourceGenericType;
-            ParameterizedType targetParamType = (ParameterizedType) targetGenericType;
-            
-            Type[] sourceTypeArgs = sourceParamType.getActualTypeArguments();
-            Type[] targetTypeArgs = targetParamType.getActualTypeArguments();
-            
-            if (sourceTypeArgs.length > 0 && targetTypeArgs.length > 0) {
-                Class<?> sourceElementType = (Class<?>) sourceTypeArgs[0];
-                Class<?> targetElementType = (Class<?>) targetTypeArgs[0];
-                
-                if (!sourceElementType.equals(targetElementType)) {
-                    warnings.add("Collection element types differ: " + 
-                                sourceElementType.getName() + " -> " + targetElementType.getName());
-                }
-            }
-        }
-        
-        return new ValidationResult(errors, warnings);
+    private static boolean isComplexType(Class<?> type) {
+        return !type.isPrimitive() &&
+               !type.equals(String.class) &&
+               !Number.class.isAssignableFrom(type) &&
+               !type.equals(Boolean.class) &&
+               !type.equals(Character.class) &&
+               !java.time.temporal.Temporal.class.isAssignableFrom(type) &&
+               !java.util.Date.class.isAssignableFrom(type) &&
+               !type.isArray() &&
+               !java.util.Collection.class.isAssignableFrom(type) &&
+               !Map.class.isAssignableFrom(type) &&
+               !type.equals(java.util.Optional.class);
     }
-    
-    private static boolean isAutoConvertible(Class<?> sourceType, Class<?> targetType) {
-        // Conversões numéricas
-        if (isNumericType(sourceType) && isNumericType(targetType)) {
-            return true;
-        }
-        
-        // String para qualquer tipo (toString)
-        if (targetType.equals(String.class)) {
-            return true;
-        }
-        
-        // Wrapper para primitivo e vice-versa
-        if (isPrimitiveWrapper(sourceType, targetType) || isPrimitiveWrapper(targetType, sourceType)) {
-            return true;
+
+    /**
+     * Último resultado de um par de tipos, com o estado do ConverterRegistry
+     * usado para calculá-lo
+     */
+    private static final class CachedResult {
+        private final Object converters;
+        private final ValidationResult result;
+
+        CachedResult(Object converters, ValidationResult result) {
+            this.converters = converters;
+            this.result = result;
         }
-        
-        return false;
-    }
-    
-    private static boolean isNumericType(Class<?> type) {
-        return Number.class.isAssignableFrom(type) || 
-               type.equals(int.class) || type.equals(long.class) || 
-               type.equals(double.class) || type.equals(float.class) ||
-               type.equals(short.class) || type.equals(byte.class);
-    }
-    
-    private static boolean isPrimitiveWrapper(Class<?> wrapper, Class<?> primitive) {
-        return (wrapper.equals(Integer.class) && primitive.equals(int.class)) ||
-               (wrapper.equals(Long.class) && primitive.equals(long.class)) ||
-               (wrapper.equals(Double.class) && primitive.equals(double.class)) ||
-               (wrapper.equals(Float.class) && primitive.equals(float.class)) ||
-               (wrapper.equals(Boolean.class) && primitive.equals(boolean.class)) ||
-               (wrapper.equals(Character.class) && primitive.equals(char.class)) ||
-               (wrapper.equals(Byte.class) && primitive.equals(byte.class)) ||
-               (wrapper.equals(Short.class) && primitive.equals(short.class));
-    }
-    
-    private static boolean isCollectionType(Class<?> type) {
-        return java.util.Collection.class.isAssignableFrom(type);
-    }
-    
-    private static boolean isSimpleType(Class<?> type) {
-        return type.isPrimitive() ||
-               type.equals(String.class) ||
-               Number.class.isAssignableFrom(type) ||
-               type.equals(Boolean.class) ||
-               type.equals(Character.class) ||
-               java.time.temporal.Temporal.class.isAssignableFrom(type);
     }
 }
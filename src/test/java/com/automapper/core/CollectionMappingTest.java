@@ -0,0 +1,109 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+class CollectionMappingTest {
+
+    static class ItemDto {
+        String name;
+        long quantity;
+
+        ItemDto() {
+        }
+
+        ItemDto(String name, long quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+    }
+
+    static class Item {
+        String name;
+        int quantity;
+    }
+
+    static class OrderDto {
+        List<ItemDto> items;
+        ItemDto[] extras;
+        Map<String, ItemDto> byCode;
+        Optional<ItemDto> gift;
+        List<List<ItemDto>> batches;
+    }
+
+    static class Order {
+        List<Item> items;
+        List<Item> extras;
+        Map<String, Item> byCode;
+        Optional<Item> gift;
+        List<List<Item>> batches;
+    }
+
+    static class NumbersDto {
+        List<Long> values;
+        Set<String> tags;
+        List<String> names;
+    }
+
+    static class Numbers {
+        int[] values;
+        SortedSet<String> tags;
+        LinkedHashSet<String> names;
+    }
+
+    @Test
+    void elementsAreMappedToTheResolvedTargetType() {
+        OrderDto dto = new OrderDto();
+        dto.items = Arrays.asList(new ItemDto("pen", 2), null);
+        dto.extras = new ItemDto[] {new ItemDto("bag", 1)};
+        dto.byCode = new LinkedHashMap<>();
+        dto.byCode.put("p1", new ItemDto("pen", 5));
+        dto.gift = Optional.of(new ItemDto("card", 1));
+        dto.batches = Collections.singletonList(Collections.singletonList(new ItemDto("box", 3)));
+
+        Order order = AutoMapper.create(OrderDto.class, Order.class).map(dto);
+
+        assertInstanceOf(Item.class, order.items.get(0));
+        assertEquals("pen", order.items.get(0).name);
+        assertEquals(2, order.items.get(0).quantity);
+        assertNull(order.items.get(1));
+        assertEquals("bag", order.extras.get(0).name);
+        assertInstanceOf(Item.class, order.byCode.get("p1"));
+        assertEquals(5, order.byCode.get("p1").quantity);
+        assertEquals("card", order.gift.get().name);
+        assertInstanceOf(Item.class, order.batches.get(0).get(0));
+        assertEquals(3, order.batches.get(0).get(0).quantity);
+    }
+
+    @Test
+    void collectionsAreCopiedIntoTheDeclaredTargetType() {
+        NumbersDto dto = new NumbersDto();
+        dto.values = Arrays.asList(1L, 2L, 3L);
+        dto.tags = new LinkedHashSet<>(Arrays.asList("b", "a"));
+        dto.names = new ArrayList<>(Arrays.asList("x", "y", "x"));
+
+        Numbers numbers = AutoMapper.create(NumbersDto.class, Numbers.class).map(dto);
+
+        assertArrayEquals(new int[] {1, 2, 3}, numbers.values);
+        assertInstanceOf(TreeSet.class, numbers.tags);
+        assertEquals(Arrays.asList("a", "b"), new ArrayList<>(numbers.tags));
+        assertEquals(Arrays.asList("x", "y"), new ArrayList<>(numbers.names));
+        assertNotSame(dto.names, numbers.names);
+    }
+}
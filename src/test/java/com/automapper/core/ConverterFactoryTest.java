@@ -0,0 +1,184 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.automapper.annotations.UseConverter;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ConverterFactoryTest {
+
+    static final AtomicInteger created = new AtomicInteger();
+
+    static class CountingConverter implements TypeConverter<String, String> {
+        CountingConverter() {
+            created.incrementAndGet();
+        }
+
+        @Override
+        public String apply(String value) {
+            return value.trim();
+        }
+    }
+
+    static class PrefixConverter implements TypeConverter<String, String> {
+        private final String prefix;
+
+        PrefixConverter(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public String apply(String value) {
+            return prefix + value;
+        }
+    }
+
+    static class NotAConverter {
+    }
+
+    static class FirstSource {
+        @UseConverter(CountingConverter.class)
+        String name;
+        @UseConverter(CountingConverter.class)
+        String city;
+    }
+
+    static class FirstTarget {
+        String name;
+        String city;
+    }
+
+    static class SecondSource {
+        @UseConverter(CountingConverter.class)
+        String name;
+    }
+
+    static class SecondTarget {
+        String name;
+    }
+
+    static class RegisteredSource {
+        @UseConverter(PrefixConverter.class)
+        String code;
+    }
+
+    static class RegisteredTarget {
+        String code;
+    }
+
+    static class ProvidedSource {
+        @UseConverter(PrefixConverter.class)
+        String code;
+    }
+
+    static class ProvidedTarget {
+        String code;
+    }
+
+    static class InvalidSource {
+        @UseConverter(NotAConverter.class)
+        String name;
+    }
+
+    static class InvalidTarget {
+        String name;
+    }
+
+    static class MismatchedSource {
+        @UseConverter(CountingConverter.class)
+        Integer name;
+    }
+
+    static class MismatchedTarget {
+        String name;
+    }
+
+    @AfterEach
+    void clearFactory() {
+        ConverterFactory.clear();
+    }
+
+    @Test
+    void oneInstanceIsSharedByEveryFieldAndMapper() {
+        FirstSource first = new FirstSource();
+        first.name = " Ana ";
+        first.city = " Recife ";
+        SecondSource second = new SecondSource();
+        second.name = " Bia ";
+        int before = created.get();
+
+        FirstTarget firstTarget = AutoMapper.create(FirstSource.class, FirstTarget.class).map(first);
+        SecondTarget secondTarget = AutoMapper.create(SecondSource.class, SecondTarget.class).map(second);
+
+        assertEquals("Ana", firstTarget.name);
+        assertEquals("Recife", firstTarget.city);
+        assertEquals("Bia", secondTarget.name);
+        assertEquals(before + 1, created.get());
+        assertSame(ConverterFactory.get(CountingConverter.class), ConverterFactory.get(CountingConverter.class));
+    }
+
+    @Test
+    void registeredSupplierIsCalledOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        ConverterFactory.register(PrefixConverter.class, () -> {
+            calls.incrementAndGet();
+            return new PrefixConverter("reg-");
+        });
+        RegisteredSource source = new RegisteredSource();
+        source.code = "1";
+
+        AutoMapper<RegisteredSource, RegisteredTarget> mapper = 
+            AutoMapper.create(RegisteredSource.class, RegisteredTarget.class);
+
+        assertEquals("reg-1", mapper.map(source).code);
+        assertEquals("reg-1", mapper.map(source).code);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void providerSuppliesClassesWithoutRegisteredFactory() {
+        ConverterFactory.useProvider(type -> type == PrefixConverter.class ? new PrefixConverter("di-") : null);
+        ProvidedSource source = new ProvidedSource();
+        source.code = "7";
+
+        assertEquals("di-7", AutoMapper.create(ProvidedSource.class, ProvidedTarget.class).map(source).code);
+        assertEquals(CountingConverter.class, ConverterFactory.get(CountingConverter.class).getClass());
+    }
+
+    @Test
+    void supplierReturningAnotherTypeIsRejected() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Class<Object> raw = (Class) PrefixConverter.class;
+        ConverterFactory.register(raw, () -> "not a converter");
+
+        assertThrows(IllegalStateException.class, () -> ConverterFactory.get(PrefixConverter.class));
+    }
+
+    @Test
+    void invalidConvertersFailWhenThePlanIsBuilt() {
+        InvalidSource invalid = new InvalidSource();
+        invalid.name = "x";
+        RuntimeException notConverter = assertThrows(RuntimeException.class, 
+            () -> AutoMapper.create(InvalidSource.class, InvalidTarget.class).map(invalid));
+        assertTrue(rootMessage(notConverter).contains("must implement TypeConverter"), rootMessage(notConverter));
+
+        MismatchedSource mismatched = new MismatchedSource();
+        mismatched.name = 1;
+        RuntimeException wrongType = assertThrows(RuntimeException.class, 
+            () -> AutoMapper.create(MismatchedSource.class, MismatchedTarget.class).map(mismatched));
+        assertTrue(rootMessage(wrongType).contains("accepts java.lang.String"), rootMessage(wrongType));
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
@@ -0,0 +1,51 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ConverterRegistryTest {
+
+    @AfterEach
+    void clearRegistry() {
+        ConverterRegistry.clear();
+    }
+
+    @Test
+    void interfaceConverterIsPreferredOverObjectConverter() {
+        ConverterRegistry.register(Object.class, String.class, value -> "object");
+        ConverterRegistry.register(CharSequence.class, String.class, value -> "chars");
+        ConverterRegistry.register(Collection.class, String.class, value -> "collection");
+
+        assertEquals("chars", convert(StringBuilder.class, String.class, new StringBuilder()));
+        assertEquals("collection", convert(ArrayList.class, String.class, new ArrayList<>()));
+        assertEquals("object", convert(Thread.class, String.class, new Object()));
+    }
+
+    @Test
+    void superclassConverterIsPreferredOverInterfaceConverter() {
+        ConverterRegistry.register(CharSequence.class, String.class, value -> "chars");
+        ConverterRegistry.register(Object.class, String.class, value -> "object");
+        ConverterRegistry.register(Number.class, String.class, value -> "number");
+
+        assertEquals("number", convert(Integer.class, String.class, 1));
+    }
+
+    @Test
+    void primitiveTypesAreLookedUpByTheirWrapper() {
+        ConverterRegistry.register(Integer.class, String.class, value -> "int " + value);
+
+        assertEquals("int 7", convert(int.class, String.class, 7));
+        assertNull(ConverterRegistry.table().find(long.class, String.class));
+    }
+
+    private static Object convert(Class<?> sourceType, Class<?> targetType, Object value) {
+        Function<Object, Object> converter = ConverterRegistry.table().find(sourceType, targetType);
+        return converter.apply(value);
+    }
+}
@@ -0,0 +1,104 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class ExistingTargetMappingTest {
+
+    static class Address {
+        String city;
+    }
+
+    static class Source {
+        String name;
+        Integer age;
+        Address address;
+    }
+
+    static class Target {
+        String name;
+        int age;
+        String addressCity;
+        String notes;
+    }
+
+    static class OverwriteSource {
+        String name;
+        Integer age;
+        Address address;
+    }
+
+    static class OverwriteTarget {
+        String name;
+        int age;
+        String addressCity;
+        String notes;
+    }
+
+    @Test
+    void sourceIsWrittenIntoTheGivenInstance() {
+        AutoMapper<Source, Target> mapper = AutoMapper.create(Source.class, Target.class).flatten();
+        Source source = new Source();
+        source.name = "Ana";
+        source.age = 30;
+        source.address = new Address();
+        source.address.city = "Recife";
+        Target target = new Target();
+        target.notes = "kept";
+
+        assertSame(target, mapper.map(source, target));
+        assertEquals("Ana", target.name);
+        assertEquals(30, target.age);
+        assertEquals("Recife", target.addressCity);
+        assertEquals("kept", target.notes);
+    }
+
+    @Test
+    void nullValuesAreSkippedByDefault() {
+        AutoMapper<Source, Target> mapper = AutoMapper.create(Source.class, Target.class).flatten();
+        Target target = new Target();
+        target.name = "Ana";
+        target.age = 30;
+        target.addressCity = "Recife";
+
+        mapper.map(new Source(), target);
+
+        assertEquals("Ana", target.name);
+        assertEquals(30, target.age);
+        assertEquals("Recife", target.addressCity);
+        assertSame(target, mapper.map(null, target));
+        assertEquals("Ana", target.name);
+    }
+
+    @Test
+    void nullValuesOverwriteTheTargetWhenConfigured() {
+        AutoMapper<OverwriteSource, OverwriteTarget> mapper = 
+            AutoMapper.create(OverwriteSource.class, OverwriteTarget.class)
+                .flatten()
+                .nullValues(NullValuePolicy.OVERWRITE);
+        OverwriteTarget target = new OverwriteTarget();
+        target.name = "Ana";
+        target.age = 30;
+        target.addressCity = "Recife";
+        target.notes = "kept";
+
+        mapper.map(new OverwriteSource(), target);
+
+        assertNull(target.name);
+        assertEquals(0, target.age);
+        assertNull(target.addressCity);
+        assertEquals("kept", target.notes);
+    }
+
+    @Test
+    void nullTargetIsRejected() {
+        AutoMapper<Source, Target> mapper = AutoMapper.create(Source.class, Target.class);
+
+        assertThrows(IllegalArgumentException.class, () -> mapper.map(new Source(), null));
+        assertThrows(IllegalArgumentException.class, () -> mapper.nullValues(null));
+    }
+}
@@ -0,0 +1,70 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.Serializable;
+import org.junit.jupiter.api.Test;
+
+class FieldMatcherTest {
+
+    static class Entity implements Serializable {
+        private static final long serialVersionUID = 1L;
+        static String shared = "entity";
+        String nome;
+    }
+
+    static class EntityView implements Serializable {
+        private static final long serialVersionUID = 2L;
+        static String shared = "view";
+        String nome;
+    }
+
+    static class Address {
+        String cidade;
+    }
+
+    static class Customer {
+        String dtNascimento;
+        String data_cadastro;
+        Address endereco;
+    }
+
+    static class CustomerView {
+        String nascimento;
+        String dataCadastro;
+        String enderecoCidade;
+    }
+
+    @Test
+    void staticFieldsWithTheSameNameAreNotMapped() {
+        Entity entity = new Entity();
+        entity.nome = "Ana";
+
+        EntityView view = AutoMapper.create(Entity.class, EntityView.class).map(entity);
+
+        assertEquals("Ana", view.nome);
+        assertEquals("view", EntityView.shared);
+    }
+
+    @Test
+    void conventionAndFlatteningResolveFieldsWithDifferentNames() {
+        AutoMapper<Customer, CustomerView> mapper = AutoMapper.create(Customer.class, CustomerView.class)
+            .namingConvention(NamingConvention.stripPrefixes("dt").andThen(NamingConvention.CAMEL_SNAKE_CASE))
+            .flatten();
+        Customer customer = new Customer();
+        customer.dtNascimento = "15/05/1990";
+        customer.data_cadastro = "01/02/2020";
+        customer.endereco = new Address();
+        customer.endereco.cidade = "Recife";
+
+        CustomerView view = mapper.map(customer);
+
+        assertEquals("15/05/1990", view.nascimento);
+        assertEquals("01/02/2020", view.dataCadastro);
+        assertEquals("Recife", view.enderecoCidade);
+
+        customer.endereco = null;
+        assertNull(mapper.map(customer).enderecoCidade);
+    }
+}
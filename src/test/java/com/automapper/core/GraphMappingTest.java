@@ -0,0 +1,121 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GraphMappingTest {
+
+    static class Category {
+        String name;
+        Category parent;
+        List<Category> children = new ArrayList<>();
+
+        Category() {
+        }
+
+        Category(String name) {
+            this.name = name;
+        }
+
+        Category add(Category child) {
+            child.parent = this;
+            children.add(child);
+            return this;
+        }
+    }
+
+    static class CategoryView {
+        String name;
+        CategoryView parent;
+        List<CategoryView> children;
+    }
+
+    static class Customer {
+        String name;
+    }
+
+    static class CustomerView {
+        String name;
+    }
+
+    static class Order {
+        Customer billing;
+        Customer shipping;
+        List<Customer> contacts;
+    }
+
+    static class OrderView {
+        CustomerView billing;
+        CustomerView shipping;
+        List<CustomerView> contacts;
+    }
+
+    static class PlainOrder {
+        Customer billing;
+        Customer shipping;
+    }
+
+    static class PlainOrderView {
+        CustomerView billing;
+        CustomerView shipping;
+    }
+
+    @Test
+    void cyclicReferencesPointBackToTheMappedParent() {
+        AutoMapper<Category, CategoryView> mapper = 
+            AutoMapper.create(Category.class, CategoryView.class).preserveReferences();
+        Category root = new Category("raiz").add(new Category("a").add(new Category("a1"))).add(new Category("b"));
+
+        CategoryView view = mapper.map(root);
+
+        assertEquals(2, view.children.size());
+        assertSame(view, view.children.get(0).parent);
+        assertSame(view, view.children.get(1).parent);
+        assertSame(view.children.get(0), view.children.get(0).children.get(0).parent);
+        assertEquals("a1", view.children.get(0).children.get(0).name);
+    }
+
+    @Test
+    void sharedNodesAreMappedOncePerCall() {
+        AutoMapper<Order, OrderView> mapper = AutoMapper.create(Order.class, OrderView.class).preserveReferences();
+        Customer customer = new Customer();
+        customer.name = "Ana";
+        Customer other = new Customer();
+        other.name = "Bia";
+        Order order = new Order();
+        order.billing = customer;
+        order.shipping = customer;
+        order.contacts = Arrays.asList(customer, other, customer);
+
+        OrderView view = mapper.map(order);
+
+        assertSame(view.billing, view.shipping);
+        assertSame(view.billing, view.contacts.get(0));
+        assertSame(view.billing, view.contacts.get(2));
+        assertNotSame(view.billing, view.contacts.get(1));
+        assertEquals("Bia", view.contacts.get(1).name);
+
+        // Cada chamada tem o próprio contexto
+        assertNotSame(view.billing, mapper.map(order).billing);
+    }
+
+    @Test
+    void sharedNodesAreCopiedWithoutGraphMode() {
+        Customer customer = new Customer();
+        customer.name = "Ana";
+        PlainOrder order = new PlainOrder();
+        order.billing = customer;
+        order.shipping = customer;
+
+        PlainOrderView view = AutoMapper.create(PlainOrder.class, PlainOrderView.class).map(order);
+
+        assertNotSame(view.billing, view.shipping);
+        assertEquals("Ana", view.shipping.name);
+    }
+}
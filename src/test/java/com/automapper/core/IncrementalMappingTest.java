@@ -0,0 +1,118 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class IncrementalMappingTest {
+
+    static class Address {
+        String city;
+
+        Address() {
+        }
+
+        Address(String city) {
+            this.city = city;
+        }
+    }
+
+    static class AddressView {
+        String city;
+    }
+
+    static class Product {
+        String name;
+        int stock;
+        Address address;
+        List<String> tags;
+
+        Product copy() {
+            Product copy = new Product();
+            copy.name = name;
+            copy.stock = stock;
+            copy.address = address == null ? null : new Address(address.city);
+            copy.tags = tags == null ? null : new ArrayList<>(tags);
+            return copy;
+        }
+    }
+
+    static class ProductView {
+        String name;
+        int stock;
+        AddressView address;
+        List<String> tags;
+    }
+
+    private static Product product() {
+        Product product = new Product();
+        product.name = "Caneta";
+        product.stock = 10;
+        product.address = new Address("Recife");
+        product.tags = new ArrayList<>(Arrays.asList("azul"));
+        return product;
+    }
+
+    @Test
+    void onlyChangedEntriesAreReapplied() {
+        AutoMapper<Product, ProductView> mapper = AutoMapper.create(Product.class, ProductView.class);
+        Product previous = product();
+        ProductView view = mapper.map(previous);
+
+        Product current = previous.copy();
+        current.stock = 7;
+        view.name = "local";
+
+        assertEquals(Set.of("stock"), mapper.mapChanges(previous, current, view));
+        assertEquals(7, view.stock);
+        assertEquals("local", view.name);
+    }
+
+    @Test
+    void nestedValuesAreComparedRecursively() {
+        AutoMapper<Product, ProductView> mapper = AutoMapper.create(Product.class, ProductView.class);
+        Product previous = product();
+        ProductView view = mapper.map(previous);
+
+        Product current = previous.copy();
+        assertEquals(Set.of(), mapper.mapChanges(previous, current, view));
+
+        current.address.city = "Olinda";
+        current.tags.add("verde");
+        assertEquals(Set.of("address", "tags"), mapper.mapChanges(previous, current, view));
+        assertEquals("Olinda", view.address.city);
+        assertEquals(Arrays.asList("azul", "verde"), view.tags);
+    }
+
+    @Test
+    void sharedMutableValuesAreAlwaysReapplied() {
+        AutoMapper<Product, ProductView> mapper = AutoMapper.create(Product.class, ProductView.class);
+        Product product = product();
+        ProductView view = mapper.map(product);
+
+        product.address.city = "Olinda";
+        product.tags.add("verde");
+
+        assertEquals(Set.of("address", "tags"), mapper.mapChanges(product, product, view));
+        assertEquals("Olinda", view.address.city);
+        assertEquals(Arrays.asList("azul", "verde"), view.tags);
+    }
+
+    @Test
+    void changedSourceFieldsSelectTheirEntries() {
+        AutoMapper<Product, ProductView> mapper = AutoMapper.create(Product.class, ProductView.class);
+        Product product = product();
+        ProductView view = mapper.map(product);
+
+        product.name = "Lápis";
+        product.stock = 3;
+
+        assertEquals(Set.of("stock"), mapper.mapChangedFields(product, view, Set.of("stock")));
+        assertEquals("Caneta", view.name);
+        assertEquals(3, view.stock);
+    }
+}
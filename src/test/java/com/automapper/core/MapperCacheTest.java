@@ -0,0 +1,115 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import org.junit.jupiter.api.Test;
+
+class MapperCacheTest {
+
+    public static class Source {
+        public String name;
+    }
+
+    public static class Target {
+        public String name;
+    }
+
+    @Test
+    void createReturnsOneMapperPerPairUntilEvicted() {
+        AutoMapper<Source, Target> mapper = AutoMapper.create(Source.class, Target.class);
+        assertSame(mapper, AutoMapper.create(Source.class, Target.class));
+
+        AutoMapper.evict(Source.class, Target.class);
+        assertNotSame(mapper, AutoMapper.create(Source.class, Target.class));
+    }
+
+    @Test
+    void childLoaderIsCollectedWhenMappedToParentClasses() throws Exception {
+        WeakReference<ClassLoader> loader = mapFromChildLoader(Source.class, Target.class);
+        assertTrue(collected(loader), "child loader mapped to a parent target was not collected");
+    }
+
+    @Test
+    void childLoaderIsCollectedWhenMappedFromParentClasses() throws Exception {
+        WeakReference<ClassLoader> loader = mapToChildLoader(Source.class, Target.class);
+        assertTrue(collected(loader), "child loader mapped from a parent source was not collected");
+    }
+
+    /**
+     * Mapeia a fonte definida em um loader filho para o alvo do loader do teste
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static WeakReference<ClassLoader> mapFromChildLoader(Class<?> source, Class<?> target) throws Exception {
+        ChildLoader child = new ChildLoader(source.getName());
+        Class<?> childSource = child.loadClass(source.getName());
+        assertNotSame(source, childSource);
+
+        Object instance = childSource.getConstructor().newInstance();
+        childSource.getField("name").set(instance, "Ana");
+        Object mapped = ((AutoMapper) AutoMapper.create(childSource, target)).map(instance);
+        assertEquals("Ana", target.getField("name").get(mapped));
+        return new WeakReference<>(child);
+    }
+
+    /**
+     * Mapeia a fonte do loader do teste para o alvo definido em um loader filho
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static WeakReference<ClassLoader> mapToChildLoader(Class<?> source, Class<?> target) throws Exception {
+        ChildLoader child = new ChildLoader(target.getName());
+        Class<?> childTarget = child.loadClass(target.getName());
+
+        Object instance = source.getConstructor().newInstance();
+        source.getField("name").set(instance, "Bia");
+        Object mapped = ((AutoMapper) AutoMapper.create(source, childTarget)).map(instance);
+        Field name = childTarget.getField("name");
+        assertEquals("Bia", name.get(mapped));
+        return new WeakReference<>(child);
+    }
+
+    private static boolean collected(WeakReference<ClassLoader> loader) throws InterruptedException {
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return loader.get() == null;
+    }
+
+    /**
+     * Loader que define ele mesmo uma classe do teste, delegando as demais ao pai
+     */
+    private static final class ChildLoader extends ClassLoader {
+        private final String owned;
+
+        ChildLoader(String owned) {
+            super(MapperCacheTest.class.getClassLoader());
+            this.owned = owned;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(owned)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+}
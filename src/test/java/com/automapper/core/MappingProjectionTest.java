@@ -0,0 +1,105 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class MappingProjectionTest {
+
+    static class Address {
+        String city;
+        String street;
+    }
+
+    static class AddressView {
+        String city;
+        String street;
+    }
+
+    static class Person {
+        String name;
+        int age;
+        Address address;
+    }
+
+    static class PersonView {
+        String name;
+        int age;
+        AddressView address;
+    }
+
+    private static Person person() {
+        Person person = new Person();
+        person.name = "Ana";
+        person.age = 30;
+        person.address = new Address();
+        person.address.city = "Recife";
+        person.address.street = "Rua da Aurora";
+        return person;
+    }
+
+    @Test
+    void onlyRequestedPathsAreMapped() {
+        MappingProjection<Person, PersonView> projection = AutoMapper.create(Person.class, PersonView.class)
+            .projection(Set.of("name", "address.city"));
+
+        PersonView view = projection.map(person());
+
+        assertEquals("Ana", view.name);
+        assertEquals(0, view.age);
+        assertEquals("Recife", view.address.city);
+        assertNull(view.address.street);
+    }
+
+    @Test
+    void equivalentPathSetsShareTheCachedProjection() {
+        AutoMapper<Person, PersonView> mapper = AutoMapper.create(Person.class, PersonView.class);
+
+        MappingProjection<Person, PersonView> whole = mapper.projection(Set.of("address"));
+        assertSame(whole, mapper.projection(Set.of("address", "address.city")));
+        assertEquals(Set.of("address"), whole.getPaths());
+        assertEquals("Rua da Aurora", whole.map(person()).address.street);
+    }
+
+    @Test
+    void unknownPathsAreRejectedBeforeCaching() {
+        AutoMapper<Person, PersonView> mapper = AutoMapper.create(Person.class, PersonView.class);
+
+        assertThrows(IllegalArgumentException.class, () -> mapper.projection(Set.of("name", "nickname")));
+        assertThrows(IllegalArgumentException.class, () -> mapper.projection(Set.of("address.zip")));
+    }
+
+    @Test
+    void leastRecentlyUsedProjectionsAreEvicted() {
+        AutoMapper<Wide, Wide> mapper = AutoMapper.create(Wide.class, Wide.class);
+        MappingProjection<Wide, Wide> first = mapper.projection(fields(1));
+        MappingProjection<Wide, Wide> recent = mapper.projection(fields(2));
+
+        for (int mask = 3; mask < 300; mask++) {
+            mapper.projection(fields(mask));
+            assertSame(recent, mapper.projection(fields(2)));
+        }
+
+        assertNotSame(first, mapper.projection(fields(1)));
+    }
+
+    static class Wide {
+        int f0, f1, f2, f3, f4, f5, f6, f7, f8;
+    }
+
+    private static Set<String> fields(int mask) {
+        Set<String> fields = new HashSet<>();
+        for (int i = 0; i < 9; i++) {
+            if ((mask & (1 << i)) != 0) {
+                fields.add("f" + i);
+            }
+        }
+        return fields;
+    }
+}
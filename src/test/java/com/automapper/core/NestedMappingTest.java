@@ -0,0 +1,80 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.automapper.annotations.Ignore;
+import com.automapper.annotations.MapTo;
+import org.junit.jupiter.api.Test;
+
+class NestedMappingTest {
+
+    static class AddressDto {
+        @MapTo("city")
+        String cityName;
+        @Ignore
+        String internalCode;
+        String street;
+    }
+
+    static class Address {
+        String city;
+        String internalCode;
+        String street;
+    }
+
+    static class CustomerDto {
+        String name;
+        AddressDto address;
+    }
+
+    static class Customer {
+        String name;
+        Address address;
+    }
+
+    static class NodeDto {
+        String label;
+        NodeDto next;
+    }
+
+    static class Node {
+        String label;
+        Node next;
+    }
+
+    @Test
+    void nestedPropertiesUseTheCachedMapperOfTheirPair() {
+        AutoMapper<CustomerDto, Customer> customers = AutoMapper.create(CustomerDto.class, Customer.class);
+        AutoMapper<AddressDto, Address> addresses = AutoMapper.create(AddressDto.class, Address.class);
+        CustomerDto dto = new CustomerDto();
+        dto.name = "Ana";
+        dto.address = new AddressDto();
+        dto.address.cityName = "Recife";
+        dto.address.internalCode = "X-1";
+        dto.address.street = "rua a";
+
+        Customer customer = customers.map(dto);
+        assertEquals("Recife", customer.address.city);
+        assertNull(customer.address.internalCode);
+        assertEquals("rua a", customer.address.street);
+
+        // A configuração posterior do par aninhado vale também para o pai
+        addresses.addLambdaConverter("street", street -> ((String) street).toUpperCase());
+        assertEquals("RUA A", customers.map(dto).address.street);
+    }
+
+    @Test
+    void selfReferencingTypesAreMappedThroughTheSameMapper() {
+        NodeDto first = new NodeDto();
+        first.label = "a";
+        first.next = new NodeDto();
+        first.next.label = "b";
+
+        Node node = AutoMapper.create(NodeDto.class, Node.class).map(first);
+
+        assertEquals("a", node.label);
+        assertEquals("b", node.next.label);
+        assertNull(node.next.next);
+    }
+}
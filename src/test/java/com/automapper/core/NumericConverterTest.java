@@ -0,0 +1,87 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class NumericConverterTest {
+
+    static class Source {
+        long count;
+        Double ratio;
+    }
+
+    static class Target {
+        int count;
+        Integer ratio;
+    }
+
+    static class CheckedSource {
+        long count;
+        Double ratio;
+    }
+
+    static class CheckedTarget {
+        int count;
+        Integer ratio;
+    }
+
+    @Test
+    void narrowingTruncatesWithoutOverflowCheck() {
+        NumericConverter converter = new NumericConverter(int.class, false);
+
+        assertEquals((int) (Integer.MAX_VALUE + 1L), converter.convert(Integer.MAX_VALUE + 1L, null));
+        assertEquals((byte) 300, new NumericConverter(byte.class, false).convert(300, null));
+        assertEquals((int) 1e20, converter.convert(1e20, null));
+        assertEquals(0, converter.convert(Double.NaN, null));
+        assertEquals(Float.POSITIVE_INFINITY, new NumericConverter(float.class, false).convert(1e300, null));
+    }
+
+    @Test
+    void valuesOutsideTheTargetRangeThrowWithOverflowCheck() {
+        NumericConverter toInt = new NumericConverter(Integer.class, true);
+
+        assertEquals(Integer.MAX_VALUE, toInt.convert((long) Integer.MAX_VALUE, null));
+        assertEquals(Integer.MIN_VALUE, toInt.convert(-2147483648.9, null));
+        assertThrows(ArithmeticException.class, () -> toInt.convert(Integer.MAX_VALUE + 1L, null));
+        assertThrows(ArithmeticException.class, () -> toInt.convert(2147483648.0, null));
+        assertThrows(ArithmeticException.class, () -> toInt.convert(Double.NaN, null));
+
+        NumericConverter toLong = new NumericConverter(long.class, true);
+        assertEquals(Long.MIN_VALUE, toLong.convert(-0x1p63, null));
+        assertThrows(ArithmeticException.class, () -> toLong.convert(0x1p63, null));
+        assertThrows(ArithmeticException.class, () -> toLong.convert(Double.POSITIVE_INFINITY, null));
+
+        assertThrows(ArithmeticException.class, () -> new NumericConverter(char.class, true).convert(-1, null));
+        assertThrows(ArithmeticException.class, () -> new NumericConverter(short.class, true).convert(40_000, null));
+        assertThrows(ArithmeticException.class, () -> new NumericConverter(byte.class, true).convert(128, null));
+        assertThrows(ArithmeticException.class, () -> new NumericConverter(float.class, true).convert(1e300, null));
+        assertEquals(Float.POSITIVE_INFINITY, 
+            new NumericConverter(float.class, true).convert(Double.POSITIVE_INFINITY, null));
+    }
+
+    @Test
+    void mapperReportsOverflowOnlyWhenEnabled() {
+        Source source = new Source();
+        source.count = Integer.MAX_VALUE + 1L;
+        source.ratio = 3.7;
+        Target target = AutoMapper.create(Source.class, Target.class).map(source);
+        assertEquals(Integer.MIN_VALUE, target.count);
+        assertEquals(3, target.ratio);
+
+        AutoMapper<CheckedSource, CheckedTarget> checked = 
+            AutoMapper.create(CheckedSource.class, CheckedTarget.class).checkOverflow();
+        CheckedSource fits = new CheckedSource();
+        fits.count = 42;
+        fits.ratio = -3.7;
+        assertEquals(42, checked.map(fits).count);
+        assertEquals(-3, checked.map(fits).ratio);
+
+        CheckedSource overflowing = new CheckedSource();
+        overflowing.count = Integer.MAX_VALUE + 1L;
+        RuntimeException error = assertThrows(RuntimeException.class, () -> checked.map(overflowing));
+        assertInstanceOf(ArithmeticException.class, error.getCause());
+    }
+}
@@ -0,0 +1,130 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ParallelMappingTest {
+    private static ForkJoinPool pool;
+
+    static class Item {
+        int id;
+        String name;
+
+        Item() {
+        }
+
+        Item(int id) {
+            this.id = id;
+            this.name = "item-" + id;
+        }
+    }
+
+    static class ItemView {
+        int id;
+        String name;
+    }
+
+    static class FailingItem {
+        int id;
+    }
+
+    static class FailingItemView {
+        int id;
+    }
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void resultsKeepTheSourceOrder() {
+        AutoMapper<Item, ItemView> mapper = AutoMapper.create(Item.class, ItemView.class).parallelThreshold(16);
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            items.add(i % 1000 == 0 ? null : new Item(i));
+        }
+
+        for (Collection<Item> sources : List.<Collection<Item>>of(
+                items, new LinkedList<>(items), new ConcurrentLinkedQueue<>(nonNull(items)))) {
+            List<ItemView> views = mapper.mapAllParallel(sources, pool);
+            assertEquals(sources.size(), views.size());
+
+            int index = 0;
+            for (Item item : sources) {
+                ItemView view = views.get(index++);
+                if (item == null) {
+                    assertNull(view);
+                } else {
+                    assertEquals(item.id, view.id);
+                    assertEquals(item.name, view.name);
+                }
+            }
+        }
+    }
+
+    @Test
+    void firstFailureStopsTheRemainingParts() {
+        AtomicInteger mapped = new AtomicInteger();
+        AutoMapper<FailingItem, FailingItemView> mapper = AutoMapper.create(FailingItem.class, FailingItemView.class)
+            .parallelThreshold(16)
+            .addLambdaConverter("id", id -> {
+                if ((Integer) id == 0) {
+                    throw new IllegalStateException("boom");
+                }
+                LockSupport.parkNanos(50_000);
+                mapped.incrementAndGet();
+                return id;
+            });
+
+        List<FailingItem> items = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            FailingItem item = new FailingItem();
+            item.id = i;
+            items.add(item);
+        }
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> mapper.mapAllParallel(items, pool));
+        assertTrue(error.getMessage().contains(FailingItem.class.getName()));
+        assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+        // As partes já em execução param antes de completar uma folha (20.000 / 16 itens)
+        assertTrue(mapped.get() < items.size() / 16, "mapped " + mapped.get() + " items after the failure");
+    }
+
+    @Test
+    void thresholdMustBePositive() {
+        assertThrows(IllegalArgumentException.class, 
+            () -> AutoMapper.create(Item.class, ItemView.class).parallelThreshold(0));
+    }
+
+    private static List<Item> nonNull(List<Item> items) {
+        List<Item> result = new ArrayList<>();
+        for (Item item : items) {
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.automapper.annotations.UseConverter;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class SpecializedConverterTest {
+
+    /**
+     * Falha se chamado pelo caminho com wrappers
+     */
+    static class DoublingConverter implements IntConverter {
+        @Override
+        public int convert(int value) {
+            return value * 2;
+        }
+
+        @Override
+        public Integer apply(Integer value) {
+            throw new AssertionError("boxed path used");
+        }
+    }
+
+    static class CentsConverter implements LongToObjectConverter<BigDecimal> {
+        @Override
+        public BigDecimal fromLong(long cents) {
+            return BigDecimal.valueOf(cents, 2);
+        }
+    }
+
+    static class Source {
+        int quantity;
+        short stock;
+        @UseConverter(CentsConverter.class)
+        long price;
+        String code;
+        Integer bonus;
+    }
+
+    static class Target {
+        int quantity;
+        long stock;
+        BigDecimal price;
+        int code;
+        int bonus = -1;
+    }
+
+    static class CheckedSource {
+        String total;
+    }
+
+    static class CheckedTarget {
+        int total;
+    }
+
+    static class WrongSource {
+        double quantity;
+    }
+
+    static class WrongTarget {
+        int quantity;
+    }
+
+    @Test
+    void primitiveConvertersAreCalledWithoutBoxing() {
+        AutoMapper<Source, Target> mapper = AutoMapper.create(Source.class, Target.class)
+            .addTypeConverter("quantity", new DoublingConverter())
+            .addTypeConverter("stock", new DoublingConverter())
+            .addTypeConverter("code", (ToIntConverter<String>) Integer::parseInt)
+            .addTypeConverter("bonus", (IntConverter) value -> value + 1);
+        Source source = new Source();
+        source.quantity = 21;
+        source.stock = 5;
+        source.price = 1999;
+        source.code = "123";
+
+        Target target = mapper.map(source);
+
+        assertEquals(42, target.quantity);
+        assertEquals(10L, target.stock);
+        assertEquals(new BigDecimal("19.99"), target.price);
+        assertEquals(123, target.code);
+        assertEquals(-1, target.bonus);
+
+        source.bonus = 9;
+        assertEquals(10, mapper.map(source).bonus);
+    }
+
+    @Test
+    void primitiveResultsFollowTheOverflowCheck() {
+        AutoMapper<CheckedSource, CheckedTarget> mapper = AutoMapper.create(CheckedSource.class, CheckedTarget.class)
+            .addTypeConverter("total", (ToLongConverter<String>) Long::parseLong)
+            .checkOverflow();
+        CheckedSource source = new CheckedSource();
+        source.total = "42";
+        assertEquals(42, mapper.map(source).total);
+
+        source.total = String.valueOf(Integer.MAX_VALUE + 1L);
+        RuntimeException error = assertThrows(RuntimeException.class, () -> mapper.map(source));
+        assertTrue(error.getCause() instanceof ArithmeticException, String.valueOf(error.getCause()));
+    }
+
+    @Test
+    void sourceFieldsThatDoNotWidenToTheInputAreRejected() {
+        AutoMapper<WrongSource, WrongTarget> mapper = AutoMapper.create(WrongSource.class, WrongTarget.class)
+            .addTypeConverter("quantity", (IntConverter) value -> value);
+        WrongSource source = new WrongSource();
+
+        assertThrows(RuntimeException.class, () -> mapper.map(source));
+    }
+}
@@ -0,0 +1,79 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class StreamMappingTest {
+
+    static class Source {
+        String name;
+        int age;
+
+        Source(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    static class Target {
+        String name;
+        int age;
+    }
+
+    private final AutoMapper<Source, Target> mapper = AutoMapper.create(Source.class, Target.class);
+
+    @Test
+    void streamElementsAreMappedOnlyWhenConsumed() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Source> sources = Stream.iterate(0, i -> i + 1)
+            .map(i -> new Source("item" + i, i))
+            .peek(source -> pulled.incrementAndGet());
+
+        Stream<Target> targets = mapper.mapStream(sources);
+        assertEquals(0, pulled.get());
+
+        List<Target> firstThree = targets.limit(3).collect(Collectors.toList());
+        assertEquals(3, pulled.get());
+        assertEquals(Arrays.asList("item0", "item1", "item2"), 
+                     firstThree.stream().map(target -> target.name).collect(Collectors.toList()));
+        assertEquals(2, firstThree.get(2).age);
+    }
+
+    @Test
+    void nullStreamElementsAreMappedToNull() {
+        List<Target> targets = mapper.mapStream(Stream.of(new Source("a", 1), null))
+            .collect(Collectors.toList());
+
+        assertEquals("a", targets.get(0).name);
+        assertNull(targets.get(1));
+    }
+
+    @Test
+    void iteratorMapsOneElementPerNextAndDelegatesRemove() {
+        List<Source> sources = new ArrayList<>(Arrays.asList(new Source("a", 1), new Source("b", 2)));
+
+        Iterator<Target> targets = mapper.mapIterator(sources.iterator());
+        assertTrue(targets.hasNext());
+        assertEquals("a", targets.next().name);
+        targets.remove();
+        assertEquals("b", targets.next().name);
+        assertFalse(targets.hasNext());
+        assertThrows(NoSuchElementException.class, targets::next);
+
+        assertEquals(1, sources.size());
+        assertEquals("b", sources.get(0).name);
+    }
+}
@@ -0,0 +1,149 @@
+package com.automapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TemporalConvertersTest {
+    private static final DateTimeFormatter BR_DATE = DateTimeFormatter.ofPattern(TemporalConverters.DATE_PATTERN);
+    private static final DateTimeFormatter BR_DATE_TIME = 
+        DateTimeFormatter.ofPattern(TemporalConverters.DATE_TIME_PATTERN);
+
+    @Test
+    void formatDetectionAcceptsBrazilianAndIsoInput() {
+        assertEquals(LocalDate.of(1990, 5, 15), convert(String.class, LocalDate.class, "15/05/1990"));
+        assertEquals(LocalDate.of(1990, 5, 15), convert(String.class, LocalDate.class, "1990-05-15"));
+        assertEquals(LocalDateTime.of(1990, 5, 15, 10, 20, 30), 
+            convert(String.class, LocalDateTime.class, "15/05/1990 10:20:30"));
+        assertEquals(LocalDateTime.of(1990, 5, 15, 10, 20, 30, 120_000_000), 
+            convert(String.class, LocalDateTime.class, "1990-05-15T10:20:30.12"));
+
+        assertThrows(RuntimeException.class, () -> convert(String.class, LocalDate.class, "1990/05/15"));
+        assertThrows(RuntimeException.class, () -> convert(String.class, LocalDate.class, "1990-05-15T10:20"));
+        assertThrows(RuntimeException.class, 
+            () -> convert(String.class, LocalDateTime.class, "1990-05-15T10:20:30+01:00"));
+    }
+
+    @Test
+    void leapDaysFollowTheFormatterResolution() {
+        assertEquals(LocalDate.of(2024, 2, 29), convert(String.class, LocalDate.class, "29/02/2024"));
+        assertEquals(LocalDate.of(2024, 2, 29), convert(String.class, LocalDate.class, "2024-02-29"));
+
+        // dd/MM/yyyy em modo SMART ajusta o dia; ISO-8601 é estrito
+        assertEquals(LocalDate.parse("29/02/2023", BR_DATE), convert(String.class, LocalDate.class, "29/02/2023"));
+        assertEquals(LocalDate.parse("31/04/2023", BR_DATE), convert(String.class, LocalDate.class, "31/04/2023"));
+        assertThrows(RuntimeException.class, () -> convert(String.class, LocalDate.class, "2023-02-29"));
+        assertThrows(RuntimeException.class, () -> convert(String.class, LocalDate.class, "32/01/2023"));
+
+        assertEquals("29/02/2000", convert(LocalDate.class, String.class, LocalDate.of(2000, 2, 29)));
+        assertEquals(Instant.parse("1600-02-29T12:00:00Z"), 
+            convert(String.class, Instant.class, "1600-02-29T12:00:00Z"));
+    }
+
+    @Test
+    void yearZeroAndNegativeYearsMatchTheFormatter() {
+        assertEquals(LocalDate.of(0, 1, 1), convert(String.class, LocalDate.class, "0000-01-01"));
+        assertThrows(RuntimeException.class, () -> convert(String.class, LocalDate.class, "01/01/0000"));
+
+        for (LocalDate date : new LocalDate[] {
+                LocalDate.of(0, 1, 1), LocalDate.of(-44, 3, 15), LocalDate.of(1, 1, 1), LocalDate.of(10000, 1, 1)}) {
+            assertEquals(BR_DATE.format(date), convert(LocalDate.class, String.class, date));
+        }
+
+        LocalDateTime dateTime = LocalDateTime.of(-1, 12, 31, 23, 59, 59);
+        assertEquals(BR_DATE_TIME.format(dateTime), convert(LocalDateTime.class, String.class, dateTime));
+    }
+
+    @Test
+    void offsetsArePreservedAndAppliedToInstants() {
+        String text = "2024-02-29T10:15:30.5+05:30";
+        assertEquals(OffsetDateTime.parse(text), convert(String.class, OffsetDateTime.class, text));
+        assertEquals(OffsetDateTime.parse(text).toInstant(), convert(String.class, Instant.class, text));
+        assertEquals(Instant.parse("2024-01-01T03:00:00Z"), 
+            convert(String.class, Instant.class, "2024-01-01T00:00:00-03:00"));
+        assertEquals(Instant.parse("2024-01-01T00:00:00Z"), convert(String.class, Instant.class, "2024-01-01T00:00:00"));
+
+        for (OffsetDateTime dateTime : new OffsetDateTime[] {
+                OffsetDateTime.of(2024, 2, 29, 10, 15, 30, 500_000_000, ZoneOffset.ofHoursMinutes(5, 30)),
+                OffsetDateTime.of(1969, 12, 31, 23, 0, 0, 123_456_000, ZoneOffset.ofHours(-3)),
+                OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 1, ZoneOffset.ofHoursMinutesSeconds(1, 2, 3)),
+                OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+                OffsetDateTime.of(-5, 6, 7, 8, 9, 10, 120_000_000, ZoneOffset.ofHours(2)),
+                OffsetDateTime.of(12000, 6, 7, 8, 9, 10, 120_000_000, ZoneOffset.ofHours(2))}) {
+            assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime), 
+                convert(OffsetDateTime.class, String.class, dateTime));
+        }
+
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            OffsetDateTime dateTime = OffsetDateTime.of(LocalDate.ofEpochDay(random.nextInt(3_000_000) - 1_000_000)
+                .atTime(random.nextInt(24), random.nextInt(60), random.nextInt(60), 
+                    random.nextBoolean() ? 0 : random.nextInt(1_000_000_000)),
+                ZoneOffset.ofTotalSeconds((random.nextInt(37) - 18) * 1800));
+            assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime), 
+                convert(OffsetDateTime.class, String.class, dateTime));
+        }
+    }
+
+    @Test
+    void instantsBefore1970AreFormattedLikeIsoInstant() {
+        Random random = new Random(42);
+        long min = Instant.parse("-1000-01-01T00:00:00Z").getEpochSecond();
+        long max = Instant.parse("+12000-01-01T00:00:00Z").getEpochSecond();
+        for (int i = 0; i < 10_000; i++) {
+            Instant instant = Instant.ofEpochSecond(min + (long) (random.nextDouble() * (max - min)),
+                random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000));
+            assertEquals(DateTimeFormatter.ISO_INSTANT.format(instant), convert(Instant.class, String.class, instant));
+        }
+
+        assertEquals("1969-12-31T23:59:59.999Z", convert(Date.class, String.class, new Date(-1)));
+        assertEquals("0000-02-29T00:00:00Z", 
+            convert(Instant.class, String.class, Instant.parse("0000-02-29T00:00:00Z")));
+        assertEquals(new Date(-1), convert(String.class, Date.class, "1969-12-31T23:59:59.999Z"));
+        assertEquals(Instant.parse("1900-03-01T00:00:00.000000001Z"), 
+            convert(String.class, Instant.class, "1900-03-01T00:00:00.000000001Z"));
+    }
+
+    @Test
+    void outOfRangeTimeFieldsAreRejectedForEveryTarget() {
+        String[] invalid = {
+            "2024-01-02T25:00:00Z", "2024-01-02T10:61:00Z", "2024-01-02T10:00:99Z", "2024-01-02T24:00:00Z",
+            "2024-01-02T10:00:00+19:00", "2024-01-02T10:00:00+01:75", "2024-02-30T10:00:00Z"};
+        for (String text : invalid) {
+            for (Class<?> target : new Class<?>[] {Instant.class, Date.class, OffsetDateTime.class}) {
+                assertThrows(DateTimeParseException.class, () -> DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text));
+                RuntimeException error = assertThrows(RuntimeException.class, 
+                    () -> convert(String.class, target, text), text + " -> " + target.getSimpleName());
+                assertEquals("Cannot convert string '" + text + "' to " + target.getSimpleName(), error.getMessage());
+            }
+        }
+        assertThrows(RuntimeException.class, () -> convert(String.class, LocalDateTime.class, "02/01/2024 25:61:99"));
+    }
+
+    @Test
+    void configuredPatternOnlyAcceptsItsOwnLayout() {
+        Map<Class<?>, String> patterns = Collections.singletonMap(LocalDate.class, "yyyy-MM-dd");
+        ValueConverter parser = TemporalConverters.resolve(String.class, LocalDate.class, patterns);
+        ValueConverter formatter = TemporalConverters.resolve(LocalDate.class, String.class, patterns);
+
+        assertEquals(LocalDate.of(2024, 2, 29), parser.convert("2024-02-29", null));
+        assertThrows(RuntimeException.class, () -> parser.convert("29/02/2024", null));
+        assertEquals("2024-02-29", formatter.convert(LocalDate.of(2024, 2, 29), null));
+    }
+
+    private static Object convert(Class<?> sourceType, Class<?> targetType, Object value) {
+        return TemporalConverters.resolve(sourceType, targetType, Collections.emptyMap()).convert(value, null);
+    }
+}
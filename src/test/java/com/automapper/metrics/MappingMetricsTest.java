@@ -0,0 +1,196 @@
+package com.automapper.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.automapper.core.AutoMapper;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MappingMetricsTest {
+
+    static class Address {
+        String city;
+    }
+
+    static class AddressView {
+        String city;
+    }
+
+    static class Person {
+        String name;
+        Address address;
+    }
+
+    static class PersonView {
+        String name;
+        AddressView address;
+    }
+
+    static class Order {
+        String code;
+    }
+
+    static class OrderView {
+        String code;
+    }
+
+    static class Invoice {
+        String code;
+    }
+
+    static class InvoiceView {
+        String code;
+    }
+
+    static class Payment {
+        String code;
+    }
+
+    static class PaymentView {
+        String code;
+    }
+
+    @AfterEach
+    void uninstallMetrics() {
+        MetricsRegistry.uninstall();
+    }
+
+    @Test
+    void eventsAreReportedPerPairAfterRegistration() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        MetricsRegistry.install(metrics);
+        AutoMapper<Person, PersonView> mapper = AutoMapper.create(Person.class, PersonView.class)
+            .addLambdaConverter("name", name -> ((String) name).toUpperCase());
+        Person person = new Person();
+        person.name = "ana";
+        person.address = new Address();
+        person.address.city = "Recife";
+
+        assertEquals("ANA", mapper.map(person).name);
+        mapper.map(person);
+
+        assertEquals(1, count(metrics, "register Person -> PersonView"));
+        assertEquals(1, count(metrics, "register Address -> AddressView"));
+        assertTrue(metrics.events.indexOf("register Person -> PersonView")
+            < metrics.events.indexOf("mapCompleted Person -> PersonView"), metrics.events.toString());
+        assertEquals(2, count(metrics, "mapCompleted Person -> PersonView"));
+        assertEquals(2, count(metrics, "mapCompleted Address -> AddressView"));
+        assertEquals(2, count(metrics, "nestedDepth Person -> PersonView 2"));
+        assertEquals(2, count(metrics, "converterInvoked Person -> PersonView name"));
+        assertEquals(1, count(metrics, "planBuilt Person -> PersonView"));
+    }
+
+    @Test
+    void failuresAreReportedWithTheirRootCause() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        MetricsRegistry.install(metrics);
+        AutoMapper<Order, OrderView> mapper = AutoMapper.create(Order.class, OrderView.class)
+            .addLambdaConverter("code", code -> {
+                throw new IllegalStateException("boom");
+            });
+        Order order = new Order();
+        order.code = "A1";
+
+        assertThrows(RuntimeException.class, () -> mapper.map(order));
+
+        assertEquals(1, count(metrics, "mapFailed Order -> OrderView IllegalStateException"));
+        assertEquals(0, count(metrics, "mapCompleted Order -> OrderView"));
+    }
+
+    @Test
+    void jmxMetricsPublishOneMXBeanPerPair() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        JmxMappingMetrics metrics = new JmxMappingMetrics(server);
+        MetricsRegistry.install(metrics);
+        Invoice invoice = new Invoice();
+        invoice.code = "N1";
+
+        AutoMapper<Invoice, InvoiceView> mapper = AutoMapper.create(Invoice.class, InvoiceView.class);
+        for (int i = 0; i < 3; i++) {
+            mapper.map(invoice);
+        }
+
+        ObjectName name = new ObjectName(JmxMappingMetrics.DOMAIN + ":type=Mapper,source=" + 
+                                         Invoice.class.getName() + ",target=" + InvoiceView.class.getName());
+        assertTrue(server.isRegistered(name));
+        assertEquals(3L, server.getAttribute(name, "MapCount"));
+        assertEquals(3L, metrics.stats(Invoice.class, InvoiceView.class).getMapCount());
+
+        metrics.unregister();
+        assertTrue(server.queryNames(new ObjectName(JmxMappingMetrics.DOMAIN + ":*"), null).isEmpty());
+    }
+
+    @Test
+    void failedRegistrationFallsBackToUninstrumentedMapping() {
+        MBeanServer failing = (MBeanServer) Proxy.newProxyInstance(MBeanServer.class.getClassLoader(),
+            new Class<?>[] {MBeanServer.class}, (proxy, method, args) -> {
+                if (method.getName().equals("registerMBean")) {
+                    throw new MBeanRegistrationException(new Exception("denied"));
+                }
+                return method.getReturnType() == boolean.class ? false : null;
+            });
+        MetricsRegistry.install(new JmxMappingMetrics(failing));
+        Payment payment = new Payment();
+        payment.code = "P1";
+
+        AutoMapper<Payment, PaymentView> mapper = AutoMapper.create(Payment.class, PaymentView.class);
+
+        assertEquals("P1", mapper.map(payment).code);
+        assertEquals("P1", mapper.map(payment).code);
+    }
+
+    private static long count(RecordingMetrics metrics, String event) {
+        return metrics.events.stream().filter(event::equals).count();
+    }
+
+    /**
+     * Registra cada evento recebido como texto
+     */
+    private static final class RecordingMetrics implements MappingMetrics {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void register(Class<?> sourceType, Class<?> targetType) {
+            events.add("register " + pair(sourceType, targetType));
+        }
+
+        @Override
+        public void mapCompleted(Class<?> sourceType, Class<?> targetType, long nanos) {
+            events.add("mapCompleted " + pair(sourceType, targetType));
+        }
+
+        @Override
+        public void mapFailed(Class<?> sourceType, Class<?> targetType, Throwable cause) {
+            events.add("mapFailed " + pair(sourceType, targetType) + " " + cause.getClass().getSimpleName());
+        }
+
+        @Override
+        public void nestedDepth(Class<?> sourceType, Class<?> targetType, int depth) {
+            events.add("nestedDepth " + pair(sourceType, targetType) + " " + depth);
+        }
+
+        @Override
+        public void converterInvoked(Class<?> sourceType, Class<?> targetType, String field, long nanos) {
+            events.add("converterInvoked " + pair(sourceType, targetType) + " " + field);
+        }
+
+        @Override
+        public void planBuilt(Class<?> sourceType, Class<?> targetType, long nanos) {
+            events.add("planBuilt " + pair(sourceType, targetType));
+        }
+
+        private static String pair(Class<?> sourceType, Class<?> targetType) {
+            return sourceType.getSimpleName() + " -> " + targetType.getSimpleName();
+        }
+    }
+}
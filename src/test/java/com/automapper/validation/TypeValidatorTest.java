@@ -0,0 +1,116 @@
+package com.automapper.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.automapper.core.AutoMapper;
+import com.automapper.core.ConverterRegistry;
+import com.automapper.dto.EnderecoDto;
+import com.automapper.viewmodel.EnderecoViewModel;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TypeValidatorTest {
+
+    public static class ConvertibleSource {
+        String data;
+        String dataHora;
+        char letra;
+        boolean ativo;
+        List<EnderecoDto> enderecos;
+    }
+
+    public static class ConvertibleTarget {
+        LocalDate data;
+        LocalDateTime dataHora;
+        int letra;
+        int ativo;
+        List<EnderecoViewModel> enderecos;
+    }
+
+    public static class IncompatibleSource {
+        int codigo;
+        List<String> valores;
+    }
+
+    public static class IncompatibleTarget {
+        String codigo;
+        List<Integer> valores;
+    }
+
+    public static class RegisteredSource {
+        String codigo;
+    }
+
+    public static class RegisteredTarget {
+        UUID codigo;
+    }
+
+    public static class ConvertedSource {
+        int codigo;
+    }
+
+    public static class ConvertedTarget {
+        String codigo;
+    }
+
+    @Test
+    void conversionsPerformedByTheEngineProduceNoWarnings() {
+        ValidationResult result = TypeValidator.validate(ConvertibleSource.class, ConvertibleTarget.class);
+
+        assertTrue(result.getErrors().isEmpty(), result.getErrors().toString());
+        assertEquals(Collections.emptyList(), result.getWarnings());
+
+        ConvertibleSource source = new ConvertibleSource();
+        source.data = "02/01/2020";
+        source.dataHora = "2020-01-02T10:15:30";
+        source.letra = 'A';
+        source.ativo = true;
+        source.enderecos = Collections.singletonList(new EnderecoDto("Rua", 10));
+        ConvertibleTarget target = AutoMapper.create(ConvertibleSource.class, ConvertibleTarget.class).map(source);
+
+        assertEquals(LocalDate.of(2020, 1, 2), target.data);
+        assertEquals(LocalDateTime.of(2020, 1, 2, 10, 15, 30), target.dataHora);
+        assertEquals('A', target.letra);
+        assertEquals(1, target.ativo);
+        assertEquals("Rua", target.enderecos.get(0).getLogradouro());
+    }
+
+    @Test
+    void conversionsTheEngineCannotPerformAreReported() {
+        ValidationResult result = TypeValidator.validate(IncompatibleSource.class, IncompatibleTarget.class);
+
+        assertEquals(2, result.getWarnings().size(), result.getWarnings().toString());
+        assertTrue(result.getWarnings().get(0).contains("int -> java.lang.String"));
+        assertTrue(result.getWarnings().get(1).contains("List<java.lang.String> -> java.util.List<java.lang.Integer>"));
+    }
+
+    @Test
+    void mapperValidationAcceptsFieldsWithCustomConverters() {
+        AutoMapper<ConvertedSource, ConvertedTarget> mapper = AutoMapper.create(ConvertedSource.class, 
+            ConvertedTarget.class);
+        assertEquals(1, mapper.validateMapping().getWarnings().size());
+
+        mapper.addLambdaConverter("codigo", String::valueOf);
+
+        assertEquals(Collections.emptyList(), mapper.validateMapping().getWarnings());
+    }
+
+    @Test
+    void cachedResultsFollowTheConverterRegistry() {
+        try {
+            assertEquals(1, TypeValidator.validate(RegisteredSource.class, RegisteredTarget.class).getWarnings().size());
+
+            ConverterRegistry.register(String.class, UUID.class, UUID::fromString);
+            assertEquals(Collections.emptyList(), 
+                TypeValidator.validate(RegisteredSource.class, RegisteredTarget.class).getWarnings());
+        } finally {
+            ConverterRegistry.clear();
+        }
+        assertEquals(1, TypeValidator.validate(RegisteredSource.class, RegisteredTarget.class).getWarnings().size());
+    }
+}